@@ -0,0 +1,91 @@
+package se.mickelus.tetra.data;
+
+import com.google.gson.JsonElement;
+import net.minecraft.profiler.EmptyProfiler;
+import net.minecraft.resources.FilePack;
+import net.minecraft.resources.FolderPack;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.resources.ResourcePackType;
+import net.minecraft.resources.SimpleReloadableResourceManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.registry.Bootstrap;
+
+import java.io.File;
+import java.util.Map;
+
+/**
+ * Loads the bundled data into the datastores without a running client or server. Vanilla registries are bootstrapped so that items,
+ * enchantments and attributes referenced by the data can be resolved, tags are not available so tag based item predicates will not
+ * match anything. The data directory defaults to src/main/resources and can be overridden using the tetra.benchmark.data property.
+ */
+public class BenchmarkData {
+    private static IResourceManager resourceManager;
+
+    // same order as in DataManager, materials have to be loaded before modules and improvements are expanded
+    private static final DataStore[] dataStores = new DataStore[] { DataManager.tweakData, DataManager.materialData,
+            DataManager.improvementData, DataManager.moduleData, DataManager.enchantmentData, DataManager.synergyData,
+            DataManager.replacementData, DataManager.schematicData, DataManager.craftingEffectData, DataManager.repairData,
+            DataManager.predicateData, DataManager.actionData, DataManager.destabilizationData, DataManager.featureData };
+
+    public static synchronized IResourceManager getResourceManager() {
+        if (resourceManager == null) {
+            Bootstrap.register();
+
+            resourceManager = createResourceManager(getBundledData());
+        }
+
+        return resourceManager;
+    }
+
+    public static File getBundledData() {
+        return new File(System.getProperty("tetra.benchmark.data", "src/main/resources"));
+    }
+
+    /**
+     * Creates a resource manager for the given packs, packs can either be directories or zip files. Packs are added in order, later
+     * packs take precedence over earlier packs.
+     */
+    public static IResourceManager createResourceManager(File ... packs) {
+        SimpleReloadableResourceManager manager = new SimpleReloadableResourceManager(ResourcePackType.SERVER_DATA);
+        for (File pack : packs) {
+            manager.addResourcePack(pack.isDirectory() ? new FolderPack(pack) : new FilePack(pack));
+        }
+
+        return manager;
+    }
+
+    /**
+     * Reads and parses the data for all stores.
+     */
+    public static void loadAll() {
+        for (DataStore dataStore : dataStores) {
+            load(dataStore);
+        }
+    }
+
+    public static void load(DataStore<?> dataStore) {
+        dataStore.parseData(prepare(dataStore));
+    }
+
+    public static Map<ResourceLocation, JsonElement> prepare(DataStore<?> dataStore) {
+        return prepare(dataStore, getResourceManager());
+    }
+
+    public static Map<ResourceLocation, JsonElement> prepare(DataStore<?> dataStore, IResourceManager resourceManager) {
+        return dataStore.prepare(resourceManager, EmptyProfiler.INSTANCE);
+    }
+
+    public static DataStore[] getStores() {
+        return dataStores;
+    }
+
+    public static DataStore<?> getStore(String directory) {
+        for (DataStore dataStore : dataStores) {
+            if (dataStore.getDirectory().equals(directory)) {
+                return dataStore;
+            }
+        }
+
+        throw new IllegalArgumentException("No datastore for directory " + directory);
+    }
+}
@@ -0,0 +1,94 @@
+package se.mickelus.tetra.data;
+
+import com.google.gson.JsonElement;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.registry.Bootstrap;
+import se.mickelus.tetra.module.ItemModule;
+import se.mickelus.tetra.module.ModuleRegistry;
+import se.mickelus.tetra.module.SchematicRegistry;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * Loads the bundled data together with a directory of data packs without starting the game, and prints a report with timings and
+ * entry counts for each datastore. The registries that are populated from data are set up as well, so the reported parse times
+ * include module setup, material variant expansion and schematic expansion. Run with "gradlew dataReport -Ppacks=<directory>".
+ * Exits with a non-zero status if any datastore fails to load, or if any resource is skipped as it could not be read or parsed.
+ */
+public class DataPackReport {
+    public static void main(String[] args) {
+        List<File> packs = new ArrayList<>();
+        packs.add(BenchmarkData.getBundledData());
+        if (args.length > 0) {
+            File[] packFiles = new File(args[0]).listFiles(file -> file.isDirectory() || file.getName().endsWith(".zip"));
+            if (packFiles == null) {
+                System.err.println("Not a directory: " + args[0]);
+                System.exit(1);
+            }
+            Arrays.sort(packFiles);
+            packs.addAll(Arrays.asList(packFiles));
+        }
+
+        Bootstrap.register();
+        DataManager.setupDataRegistries();
+
+        IResourceManager resourceManager = BenchmarkData.createResourceManager(packs.toArray(new File[0]));
+        packs.forEach(pack -> System.out.println("Pack: " + pack.getPath()));
+
+        long memoryBefore = getUsedMemory();
+        long totalStart = System.nanoTime();
+        boolean failed = false;
+
+        System.out.println();
+        System.out.println(String.format("%-20s %8s %8s %10s %10s", "store", "entries", "failed", "read ms", "parse ms"));
+        for (DataStore<?> dataStore : BenchmarkData.getStores()) {
+            try {
+                long start = System.nanoTime();
+                Map<ResourceLocation, JsonElement> rawData = BenchmarkData.prepare(dataStore, resourceManager);
+                long read = System.nanoTime();
+                dataStore.parseData(rawData);
+                long parsed = System.nanoTime();
+
+                if (dataStore.getFailedCount() > 0) {
+                    failed = true;
+                }
+
+                System.out.println(String.format("%-20s %8d %8d %10.2f %10.2f", dataStore.getDirectory(), dataStore.getData().size(),
+                        dataStore.getFailedCount(), (read - start) / 1e6, (parsed - read) / 1e6));
+            } catch (Exception e) {
+                failed = true;
+                System.out.println(String.format("%-20s failed: %s", dataStore.getDirectory(), e));
+                e.printStackTrace();
+            }
+        }
+        long totalTime = System.nanoTime() - totalStart;
+
+        Collection<ItemModule> modules = ModuleRegistry.instance.getAllModules();
+        int variantCount = modules.stream()
+                .mapToInt(module -> module.getVariantData().length)
+                .sum();
+        int improvementCount = DataManager.improvementData.getData().values().stream()
+                .mapToInt(improvements -> improvements.length)
+                .sum();
+
+        System.out.println();
+        System.out.println("Modules:      " + modules.size());
+        System.out.println("Variants:     " + variantCount);
+        System.out.println("Improvements: " + improvementCount);
+        System.out.println("Schematics:   " + SchematicRegistry.getAllSchematics().size());
+        System.out.println(String.format("Total time:   %.2f ms", totalTime / 1e6));
+        System.out.println(String.format("Memory:       %.2f MB", (getUsedMemory() - memoryBefore) / (1024d * 1024)));
+
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static long getUsedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,45 @@
+package se.mickelus.tetra.data;
+
+import com.google.gson.JsonElement;
+import net.minecraft.util.ResourceLocation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to read and parse the bundled data for a single datastore. Reading covers resource lookup and json
+ * parsing, parsing covers deserialization and any processing done by the store, e.g. material expansion for improvements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DataStoreBenchmark {
+    @Param({ "materials", "modules", "improvements", "synergies", "schematics" })
+    public String directory;
+
+    private DataStore<?> dataStore;
+    private Map<ResourceLocation, JsonElement> rawData;
+
+    @Setup
+    public void setup() {
+        BenchmarkData.loadAll();
+
+        dataStore = BenchmarkData.getStore(directory);
+        rawData = BenchmarkData.prepare(dataStore);
+    }
+
+    @Benchmark
+    public Map<ResourceLocation, JsonElement> read() {
+        return BenchmarkData.prepare(dataStore);
+    }
+
+    @Benchmark
+    public Map<ResourceLocation, ?> parse() {
+        dataStore.parseData(rawData);
+        return dataStore.getData();
+    }
+}
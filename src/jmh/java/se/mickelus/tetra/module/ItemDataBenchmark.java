@@ -0,0 +1,149 @@
+package se.mickelus.tetra.module;
+
+import com.google.common.collect.Multimap;
+import net.minecraft.entity.ai.attributes.Attribute;
+import net.minecraft.entity.ai.attributes.AttributeModifier;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.registry.Bootstrap;
+import org.openjdk.jmh.annotations.*;
+import se.mickelus.tetra.data.BenchmarkData;
+import se.mickelus.tetra.data.DataManager;
+import se.mickelus.tetra.items.modular.IModularItem;
+import se.mickelus.tetra.items.modular.ModularItem;
+import se.mickelus.tetra.items.modular.impl.ModularBladedItem;
+import se.mickelus.tetra.items.modular.impl.ModularDoubleHeadedItem;
+import se.mickelus.tetra.items.modular.impl.ModularSingleHeadedItem;
+import se.mickelus.tetra.module.data.EffectData;
+import se.mickelus.tetra.module.data.ItemProperties;
+import se.mickelus.tetra.module.data.ModuleData;
+import se.mickelus.tetra.module.data.SynergyData;
+import se.mickelus.tetra.module.data.VariantData;
+import se.mickelus.tetra.module.data.VariantDataPool;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the data aggregation done by modular items when gathering effects, attributes and properties. The item is set up with one
+ * variant of the first module for each of its slots. Cold benchmarks call the uncached aggregation, which is what happens for the
+ * first lookup after a reload or for an item that has just been crafted, warm benchmarks go through the item data caches. Material
+ * variant expansion, done by the module registry when module data is loaded, and synergy matching, which is part of all cold lookups,
+ * are measured separately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ItemDataBenchmark {
+    @Param({ "sword", "single", "double" })
+    public String itemType;
+
+    private ModularItem item;
+    private ItemStack itemStack;
+
+    // unexpanded variants of all modules for the item type, as read from the module data
+    private VariantData[][] rawVariants;
+
+    @Setup
+    public void setup() {
+        Bootstrap.register();
+        DataManager.setupDataRegistries();
+        new DataManager();
+
+        item = createItem(itemType);
+        item.init(null);
+
+        BenchmarkData.loadAll();
+
+        itemStack = createItemStack(item);
+
+        rawVariants = DataManager.moduleData.getRawData().entrySet().stream()
+                .filter(entry -> entry.getKey().getPath().startsWith(itemType + "/"))
+                .map(entry -> DataManager.gson.fromJson(entry.getValue(), ModuleData.class).variants)
+                .toArray(VariantData[][]::new);
+
+        // populate the caches for the warm benchmarks
+        item.getEffectDataCached(itemStack);
+        item.getAttributeModifiersCached(itemStack);
+        item.getPropertiesCached(itemStack);
+    }
+
+    private static ModularItem createItem(String itemType) {
+        switch (itemType) {
+            case "sword":
+                return new ModularBladedItem();
+            case "single":
+                return new ModularSingleHeadedItem();
+            case "double":
+                return new ModularDoubleHeadedItem();
+            default:
+                throw new IllegalArgumentException("Unknown item type " + itemType);
+        }
+    }
+
+    private static ItemStack createItemStack(ModularItem item) {
+        ItemStack itemStack = new ItemStack(item);
+
+        Stream.concat(Arrays.stream(item.getMajorModuleKeys()), Arrays.stream(item.getMinorModuleKeys()))
+                .map(slot -> ModuleRegistry.instance.getAllModules().stream()
+                        .filter(module -> slot.equals(module.getSlot()))
+                        .filter(module -> module.getVariantData().length > 0)
+                        .min(Comparator.comparing(ItemModule::getUnlocalizedName)))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .forEach(module -> {
+                    VariantData[] variants = module.getVariantData();
+                    module.addModule(itemStack, variants[variants.length / 2].key, null);
+                });
+
+        IModularItem.updateIdentifier(itemStack);
+
+        return itemStack;
+    }
+
+    @Benchmark
+    public VariantData[][] expandVariants() {
+        VariantDataPool pool = new VariantDataPool();
+        return Arrays.stream(rawVariants)
+                .map(variants -> ModuleRegistry.expandMaterialVariants(variants, pool))
+                .toArray(VariantData[][]::new);
+    }
+
+    @Benchmark
+    public SynergyData[] matchSynergies() {
+        return item.getSynergyData(itemStack);
+    }
+
+    @Benchmark
+    public EffectData effectDataCold() {
+        return item.getEffectData(itemStack);
+    }
+
+    @Benchmark
+    public EffectData effectDataWarm() {
+        return item.getEffectDataCached(itemStack);
+    }
+
+    @Benchmark
+    public Multimap<Attribute, AttributeModifier> attributeModifiersCold() {
+        return item.getAttributeModifiersCollapsed(itemStack);
+    }
+
+    @Benchmark
+    public Multimap<Attribute, AttributeModifier> attributeModifiersWarm() {
+        return item.getAttributeModifiersCached(itemStack);
+    }
+
+    @Benchmark
+    public ItemProperties propertiesCold() {
+        return item.getProperties(itemStack);
+    }
+
+    @Benchmark
+    public ItemProperties propertiesWarm() {
+        return item.getPropertiesCached(itemStack);
+    }
+}
@@ -0,0 +1,50 @@
+package se.mickelus.tetra.module.schematic;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import se.mickelus.tetra.data.BenchmarkData;
+import se.mickelus.tetra.data.DataManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures material outcome lookups for all bundled schematics, this is what the workbench does for every material slot whenever the
+ * player changes the materials or the inventory is scanned for materials. Tags are not available without a running server so the
+ * probe stacks only match outcomes that refer to items directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SchematicOutcomeBenchmark {
+    private SchematicDefinition[] definitions;
+    private ItemStack[] materials;
+
+    @Setup
+    public void setup() {
+        BenchmarkData.loadAll();
+
+        definitions = DataManager.schematicData.getData().values().stream()
+                .filter(definition -> definition.materialSlotCount > 0)
+                .toArray(SchematicDefinition[]::new);
+
+        materials = new ItemStack[] { new ItemStack(Items.OAK_PLANKS, 8), new ItemStack(Items.IRON_INGOT, 8),
+                new ItemStack(Items.STICK, 8), new ItemStack(Items.LEATHER, 8), new ItemStack(Items.DIAMOND, 8),
+                new ItemStack(Items.DIRT, 8) };
+    }
+
+    @Benchmark
+    public void getOutcomeFromMaterial(Blackhole blackhole) {
+        for (SchematicDefinition definition : definitions) {
+            for (int slot = 0; slot < definition.materialSlotCount; slot++) {
+                for (ItemStack material : materials) {
+                    blackhole.consume(ConfigSchematic.getOutcomeFromMaterial(definition.outcomes, material, slot));
+                }
+            }
+        }
+    }
+}
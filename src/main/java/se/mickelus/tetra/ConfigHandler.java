@@ -59,10 +59,16 @@ public class ConfigHandler {
     public static ForgeConfigSpec.BooleanValue enableShield;
 
     public static ForgeConfigSpec.BooleanValue enableGlint;
+    public static ForgeConfigSpec.BooleanValue modelPrebake;
+    public static ForgeConfigSpec.BooleanValue compactItemSync;
+    public static ForgeConfigSpec.BooleanValue modelLayerCulling;
+    public static ForgeConfigSpec.IntValue rackRenderDistance;
+    public static ForgeConfigSpec.IntValue rackFlatDistance;
 
     public static ForgeConfigSpec.BooleanValue enableStonecutter;
 
     public static ForgeConfigSpec.BooleanValue enableExtractor;
+    public static ForgeConfigSpec.IntValue extractorBlockBudget;
 
     public static ForgeConfigSpec.BooleanValue enableLookTrigger;
     public static ForgeConfigSpec.BooleanValue enableReach;
@@ -90,6 +96,29 @@ public class ConfigHandler {
                 .comment("Enables the enchantment glint rendering on modular items")
                 .define("glint", true);
 
+        modelPrebake = builder
+                .comment("Bake models for modular items in the players inventory and the creative tab in the background after data has been reloaded, "
+                        + "reduces stutter when items are first rendered")
+                .define("model_prebake", true);
+
+        modelLayerCulling = builder
+                .comment("Leave out geometry of modular item layers that is hidden behind layers above it when baking models, reduces the "
+                        + "number of quads rendered for modular items. May cause minor visual differences with some resource packs")
+                .define("model_layer_culling", false);
+
+        rackRenderDistance = builder
+                .comment("Distance in blocks at which items placed on racks stop rendering")
+                .defineInRange("rack_render_distance", 64, 0, 256);
+
+        rackFlatDistance = builder
+                .comment("Distance in blocks beyond which items placed on racks are rendered flat, without their sides. Set to 0 to disable")
+                .defineInRange("rack_flat_distance", 0, 0, 256);
+
+        compactItemSync = builder
+                .comment("Use a compact encoding for the data of modular items when they are sent over the network, reduces the size of inventory "
+                        + "and container updates. Only affects items sent from this side, items are stored in the regular format either way")
+                .define("compact_item_sync", false);
+
         development = builder
                 .comment("Enables commands & data reloading functionality useful for development, has a negative impact on performance")
                 .worldRestart()
@@ -221,6 +250,10 @@ public class ConfigHandler {
                 .worldRestart()
                 .define("extractor", true);
 
+        extractorBlockBudget = builder
+                .comment("The number of blocks fractured bedrock may break or spawn ores & mobs at each tick, lower values spread the work of large extractor operations across more ticks")
+                .defineInRange("extractor_block_budget", 1, 1, 64);
+
         enableCrossbow = builder
                 .comment("Enable modular crossbows")
                 .worldRestart()
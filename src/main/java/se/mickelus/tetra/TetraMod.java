@@ -1,9 +1,11 @@
 package se.mickelus.tetra;
 
 import net.minecraft.advancements.CriteriaTriggers;
-import net.minecraft.advancements.criterion.ItemPredicate;
 import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.BlockModelShapes;
+import net.minecraft.client.renderer.model.ModelResourceLocation;
 import net.minecraft.client.renderer.texture.AtlasTexture;
 import net.minecraft.data.DataGenerator;
 import net.minecraft.entity.EntityClassification;
@@ -20,6 +22,7 @@ import net.minecraft.util.registry.WorldGenRegistries;
 import net.minecraft.world.gen.feature.Feature;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.ModelBakeEvent;
 import net.minecraftforge.client.event.ModelRegistryEvent;
 import net.minecraftforge.client.event.TextureStitchEvent;
 import net.minecraftforge.client.model.ModelLoaderRegistry;
@@ -61,16 +64,9 @@ import se.mickelus.tetra.blocks.workbench.BasicWorkbenchBlock;
 import se.mickelus.tetra.blocks.workbench.WorkbenchContainer;
 import se.mickelus.tetra.blocks.workbench.WorkbenchTile;
 import se.mickelus.tetra.client.model.ModularModelLoader;
+import se.mickelus.tetra.compat.botania.BotaniaCompat;
 import se.mickelus.tetra.compat.curios.CuriosCompat;
 import se.mickelus.tetra.crafting.ScrollIngredient;
-import se.mickelus.tetra.craftingeffect.CraftingEffectRegistry;
-import se.mickelus.tetra.craftingeffect.condition.CraftTypeCondition;
-import se.mickelus.tetra.craftingeffect.condition.LockedCondition;
-import se.mickelus.tetra.craftingeffect.condition.MaterialCondition;
-import se.mickelus.tetra.craftingeffect.condition.ToolCondition;
-import se.mickelus.tetra.craftingeffect.outcome.ApplyImprovementOutcome;
-import se.mickelus.tetra.craftingeffect.outcome.MaterialReductionOutcome;
-import se.mickelus.tetra.craftingeffect.outcome.RemoveImprovementOutcome;
 import se.mickelus.tetra.data.DataManager;
 import se.mickelus.tetra.data.UpdateDataPacket;
 import se.mickelus.tetra.data.provider.ModuleProvider;
@@ -100,7 +96,6 @@ import se.mickelus.tetra.items.modular.impl.holo.ModularHolosphereItem;
 import se.mickelus.tetra.items.modular.impl.shield.ModularShieldItem;
 import se.mickelus.tetra.items.modular.impl.toolbelt.ModularToolbeltItem;
 import se.mickelus.tetra.items.modular.impl.toolbelt.ToolbeltContainer;
-import se.mickelus.tetra.items.modular.impl.toolbelt.ToolbeltModule;
 import se.mickelus.tetra.items.modular.impl.toolbelt.suspend.SuspendPotionEffect;
 import se.mickelus.tetra.loot.FortuneBonusCondition;
 import se.mickelus.tetra.loot.ReplaceTableModifier;
@@ -109,7 +104,6 @@ import se.mickelus.tetra.module.*;
 import se.mickelus.tetra.module.improvement.DestabilizationEffect;
 import se.mickelus.tetra.module.improvement.HonePacket;
 import se.mickelus.tetra.module.improvement.SettlePacket;
-import se.mickelus.tetra.module.schematic.BookEnchantSchematic;
 import se.mickelus.tetra.module.schematic.CleanseSchematic;
 import se.mickelus.tetra.network.PacketHandler;
 import se.mickelus.tetra.properties.TetraAttributes;
@@ -156,36 +150,10 @@ public class TetraMod {
 
         ConfigHandler.setup();
 
-        ItemPredicate.register(new ResourceLocation("tetra:modular_item"), ItemPredicateModular::new);
-        ItemPredicate.register(new ResourceLocation("tetra:material"), MaterialItemPredicate::new);
-        ItemPredicate.register(new ResourceLocation("tetra:loose"), LooseItemPredicate::new);
-
         Registry.register(Registry.LOOT_CONDITION_TYPE, FortuneBonusCondition.identifier, FortuneBonusCondition.type);
         Registry.register(Registry.LOOT_FUNCTION_TYPE, ScrollDataFunction.identifier, ScrollDataFunction.type);
 
-        new CraftingEffectRegistry();
-        CraftingEffectRegistry.registerConditionType("tetra:craft_type", CraftTypeCondition.class);
-        CraftingEffectRegistry.registerConditionType("tetra:locked", LockedCondition.class);
-        CraftingEffectRegistry.registerConditionType("tetra:material", MaterialCondition.class);
-        CraftingEffectRegistry.registerConditionType("tetra:tool", ToolCondition.class);
-
-        CraftingEffectRegistry.registerEffectType("tetra:apply_improvements", ApplyImprovementOutcome.class);
-        CraftingEffectRegistry.registerEffectType("tetra:remove_improvements", RemoveImprovementOutcome.class);
-        CraftingEffectRegistry.registerEffectType("tetra:material_reduction", MaterialReductionOutcome.class);
-
-        new RepairRegistry();
-
-        SchematicRegistry schematicRegistry = new SchematicRegistry();
-        schematicRegistry.registerSchematic(new BookEnchantSchematic());
-
-        new ItemUpgradeRegistry();
-
-        ModuleRegistry moduleRegistry = new ModuleRegistry();
-        moduleRegistry.registerModuleType(new ResourceLocation(MOD_ID, "basic_module"), BasicModule::new);
-        moduleRegistry.registerModuleType(new ResourceLocation(MOD_ID, "multi_module"), MultiSlotModule::new);
-        moduleRegistry.registerModuleType(new ResourceLocation(MOD_ID, "basic_major_module"), BasicMajorModule::new);
-        moduleRegistry.registerModuleType(new ResourceLocation(MOD_ID, "multi_major_module"), MultiSlotMajorModule::new);
-        moduleRegistry.registerModuleType(new ResourceLocation(MOD_ID, "toolbelt_module"), ToolbeltModule::new);
+        DataManager.setupDataRegistries();
 
         new TetraItemGroup();
 
@@ -299,6 +267,8 @@ public class TetraMod {
                 .map(block -> (ITetraBlock) block)
                 .forEach(block -> block.init(packetHandler));
 
+        BotaniaCompat.init();
+
         packetHandler.registerPacket(HonePacket.class, HonePacket::new);
         packetHandler.registerPacket(SettlePacket.class, SettlePacket::new);
         packetHandler.registerPacket(UpdateDataPacket.class, UpdateDataPacket::new);
@@ -355,6 +325,17 @@ public class TetraMod {
         ModelLoaderRegistry.registerLoader(new ResourceLocation(TetraMod.MOD_ID, "modular_loader"), new ModularModelLoader());
     }
 
+    @SubscribeEvent
+    @OnlyIn(Dist.CLIENT)
+    public static void modelBake(ModelBakeEvent event) {
+        for (ScrollBlock block : new ScrollBlock[] { RolledScrollBlock.instance, WallScrollBlock.instance, OpenScrollBlock.instance }) {
+            for (BlockState blockState : block.getStateContainer().getValidStates()) {
+                ModelResourceLocation location = BlockModelShapes.getModelLocation(blockState);
+                event.getModelRegistry().put(location, new ScrollModel(event.getModelRegistry().get(location), block.getArrangement()));
+            }
+        }
+    }
+
     @SubscribeEvent
     public static void onGatherData(final GatherDataEvent event) {
         DataGenerator dataGenerator = event.getGenerator();
@@ -0,0 +1,39 @@
+package se.mickelus.tetra.blocks;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import se.mickelus.tetra.util.TileEntityOptional;
+
+import java.util.Optional;
+
+/**
+ * Caches the heat transfer tile connected to another tile, so that sending units do not have to look up their neighbour every
+ * time they transfer charge. The connection is resolved lazily and has to be invalidated when the block in front of the owner, or
+ * the facing of the owner, changes.
+ */
+public class HeatTransferConnection {
+    private Optional<IHeatTransfer> connected = Optional.empty();
+    private boolean resolved = false;
+
+    public Optional<IHeatTransfer> get(World world, BlockPos pos, Direction facing) {
+        if (!resolved || isStale()) {
+            connected = TileEntityOptional.from(world, pos.offset(facing), IHeatTransfer.class);
+            resolved = true;
+        }
+
+        return connected;
+    }
+
+    private boolean isStale() {
+        return connected.isPresent()
+                && connected.get() instanceof TileEntity
+                && ((TileEntity) connected.get()).isRemoved();
+    }
+
+    public void invalidate() {
+        connected = Optional.empty();
+        resolved = false;
+    }
+}
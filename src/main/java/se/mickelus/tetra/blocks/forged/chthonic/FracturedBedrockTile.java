@@ -30,6 +30,7 @@ import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.registries.ObjectHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import se.mickelus.tetra.ConfigHandler;
 import se.mickelus.tetra.TetraMod;
 import se.mickelus.tetra.blocks.forged.extractor.SeepingBedrockBlock;
 import se.mickelus.tetra.util.CastOptional;
@@ -50,6 +51,16 @@ public class FracturedBedrockTile extends TileEntity implements ITickableTileEnt
     private static final String stepKey = "step";
     private int step = 0;
 
+    // rays queued by the last activation, these are processed over the following ticks within the configured block budget
+    private static final String queueKey = "queue";
+    private int queuedRays = 0;
+
+    private final BlockPos.Mutable tracePos = new BlockPos.Mutable();
+
+    // nearby players are only looked up once per activation, the first time a mob is spawned
+    private PlayerEntity nearbyPlayer;
+    private boolean hasLookedUpPlayer = false;
+
     private float spawnRatio = 0.5f;
     private int spawnYLimit = 4;
 
@@ -112,7 +123,7 @@ public class FracturedBedrockTile extends TileEntity implements ITickableTileEnt
     }
 
     public int getProjectedTier() {
-        return getTier(step + activity);
+        return getTier(step + queuedRays + activity);
     }
 
     private int getTier() {
@@ -183,22 +194,22 @@ public class FracturedBedrockTile extends TileEntity implements ITickableTileEnt
     }
 
     private BlockPos traceDown(BlockPos blockPos) {
-        BlockPos.Mutable movePos = blockPos.toMutable();
+        tracePos.setPos(blockPos);
 
-        while (movePos.getY() >= 0) {
-            movePos.move(Direction.DOWN);
-            BlockState blockState = world.getBlockState(movePos);
+        while (tracePos.getY() >= 0) {
+            tracePos.move(Direction.DOWN);
+            BlockState blockState = world.getBlockState(tracePos);
 
             if (isBedrock(blockState.getBlock())) {
-                return movePos.move(Direction.UP).toImmutable();
+                return tracePos.move(Direction.UP).toImmutable();
             }
 
-            if (!blockState.isAir(world, movePos)) {
-                return movePos.toImmutable();
+            if (!blockState.isAir(world, tracePos)) {
+                return tracePos.toImmutable();
             }
         }
 
-        return movePos.toImmutable();
+        return tracePos.toImmutable();
     }
 
     public static boolean breakBlock(World world, BlockPos pos, BlockState blockState) {
@@ -289,58 +300,93 @@ public class FracturedBedrockTile extends TileEntity implements ITickableTileEnt
                         serverWorld.func_242417_l(e);
 
                         // makes the mob angry at a nearby player
-                        serverWorld.getEntitiesWithinAABB(PlayerEntity.class, new AxisAlignedBB(getPos()).grow(24, 8, 24)).stream()
-                                .findAny()
-                                .ifPresent(e::setLastAttackedEntity);
+                        PlayerEntity player = getNearbyPlayer();
+                        if (player != null) {
+                            e.setLastAttackedEntity(player);
+                        }
                     });
         }
     }
 
+    @Nullable
+    private PlayerEntity getNearbyPlayer() {
+        if (!hasLookedUpPlayer) {
+            nearbyPlayer = world.getEntitiesWithinAABB(PlayerEntity.class, new AxisAlignedBB(getPos()).grow(24, 8, 24)).stream()
+                    .findAny()
+                    .orElse(null);
+            hasLookedUpPlayer = true;
+        }
+
+        return nearbyPlayer;
+    }
+
     private void playSound() {
         world.playSound(null, pos.down(pos.getY()), SoundEvents.BLOCK_BEACON_AMBIENT, SoundCategory.BLOCKS, 3f, 0.5f);
     }
 
-    @Override
-    public void tick() {
-        if (!world.isRemote && activity > 0 && world.getGameTime() % getRate() == 0) {
-            int intensity = getIntensity();
-            Vector3d origin = Vector3d.copyCentered(getPos());
+    private void processRay(Vector3d origin) {
+        Vector3d target = getTarget(step);
+        BlockPos hitPos = raytrace(origin, origin.add(target));
 
-            for (int i = 0; i < intensity; i++) {
-                Vector3d target = getTarget(step + i);
-                BlockPos hitPos = raytrace(origin, origin.add(target));
+        if (hitPos != null) {
+            BlockState blockState = world.getBlockState(hitPos);
 
-                if (hitPos != null) {
-                    BlockState blockState = world.getBlockState(hitPos);
+            breakBlock(world, hitPos, blockState);
 
-                    breakBlock(world, hitPos, blockState);
+            BlockPos spawnPos = traceDown(hitPos);
+            BlockState spawnState = world.getBlockState(spawnPos);
 
-                    BlockPos spawnPos = traceDown(hitPos);
-                    BlockState spawnState = world.getBlockState(spawnPos);
-
-                    if (canReplace(spawnState)) {
-                        if (world.getRandom().nextFloat() < spawnRatio) {
-                            if (spawnPos.getY() < spawnYLimit) {
-                                spawnOre(spawnPos);
-                            }
-                        } else {
-                            spawnMob(spawnPos);
-                        }
-                    } else {
-                        breakBlock(world, spawnPos, spawnState);
+            if (canReplace(spawnState)) {
+                if (world.getRandom().nextFloat() < spawnRatio) {
+                    if (spawnPos.getY() < spawnYLimit) {
+                        spawnOre(spawnPos);
                     }
+                } else {
+                    spawnMob(spawnPos);
                 }
+            } else {
+                breakBlock(world, spawnPos, spawnState);
             }
+        }
+
+        step++;
+        queuedRays--;
+    }
+
+    @Override
+    public void tick() {
+        if (!world.isRemote && queuedRays <= 0 && activity > 0 && world.getGameTime() % getRate() == 0) {
+            int intensity = getIntensity();
+
+            queuedRays = intensity;
+            activity -= intensity;
+            hasLookedUpPlayer = false;
+            nearbyPlayer = null;
 
             ((ServerWorld) world).spawnParticle(new BlockParticleData(ParticleTypes.BLOCK, FracturedBedrockBlock.instance.getDefaultState()),
                     pos.getX() + 0.5, pos.getY() + 1.1, pos.getZ() + 0.5,
                     8, 0, world.rand.nextGaussian() * 0.1, 0, 0.1);
 
-            step += intensity;
-            activity -= intensity;
+            markDirty();
+        }
+
+        if (!world.isRemote && queuedRays > 0) {
+            Vector3d origin = Vector3d.copyCentered(getPos());
+            int budget = Math.min(queuedRays, ConfigHandler.extractorBlockBudget.get());
+
+            for (int i = 0; i < budget; i++) {
+                processRay(origin);
+            }
+
+            if (queuedRays <= 0) {
+                nearbyPlayer = null;
+            }
+
+            markDirty();
 
             if (shouldDeplete()) {
                 world.setBlockState(getPos(), DepletedBedrockBlock.instance.getDefaultState(), 2);
+                return;
             }
         }
 
@@ -364,6 +410,10 @@ public class FracturedBedrockTile extends TileEntity implements ITickableTileEnt
         if (compound.contains(luckKey)) {
             luck = compound.getInt(luckKey);
         }
+
+        if (compound.contains(queueKey)) {
+            queuedRays = compound.getInt(queueKey);
+        }
     }
 
     @Override
@@ -373,6 +423,7 @@ public class FracturedBedrockTile extends TileEntity implements ITickableTileEnt
         compound.putInt(activityKey, activity);
         compound.putInt(stepKey, step);
         compound.putInt(luckKey, luck);
+        compound.putInt(queueKey, queuedRays);
 
         return compound;
     }
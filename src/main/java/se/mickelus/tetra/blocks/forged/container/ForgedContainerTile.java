@@ -215,14 +215,30 @@ public class ForgedContainerTile extends TileEntity implements INamedContainerPr
         return new SUpdateTileEntityPacket(pos, 0, getUpdateTag());
     }
 
+    /**
+     * The update tag only carries lock and lid state, inventory contents are synced to the players that open the container through
+     * the container itself.
+     */
     @Override
     public CompoundNBT getUpdateTag() {
-        return write(new CompoundNBT());
+        CompoundNBT compound = super.write(new CompoundNBT());
+
+        writeLockData(compound, lockIntegrity);
+        writeLidData(compound, lidIntegrity);
+
+        return compound;
+    }
+
+    @Override
+    public void handleUpdateTag(BlockState state, CompoundNBT compound) {
+        super.read(state, compound);
+
+        readState(compound);
     }
 
     @Override
     public void onDataPacket(NetworkManager net, SUpdateTileEntityPacket pkt) {
-        read(getBlockState(), pkt.getNbtCompound());
+        readState(pkt.getNbtCompound());
     }
 
     @Override
@@ -231,6 +247,10 @@ public class ForgedContainerTile extends TileEntity implements INamedContainerPr
 
         handler.ifPresent(handler -> handler.deserializeNBT(compound.getCompound(inventoryKey)));
 
+        readState(compound);
+    }
+
+    private void readState(CompoundNBT compound) {
         for (int i = 0; i < lockIntegrity.length; i++) {
             lockIntegrity[i] = compound.getInt("lock_integrity" + i);
         }
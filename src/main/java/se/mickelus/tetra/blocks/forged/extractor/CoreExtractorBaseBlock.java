@@ -87,6 +87,9 @@ public class CoreExtractorBaseBlock extends TetraWaterloggedBlock {
         if (!pos.offset(world.getBlockState(pos).get(facingProp)).equals(fromPos)) {
             TileEntityOptional.from(world, pos, CoreExtractorBaseTile.class)
                     .ifPresent(CoreExtractorBaseTile::updateTransferState);
+        } else {
+            TileEntityOptional.from(world, pos, CoreExtractorBaseTile.class)
+                    .ifPresent(CoreExtractorBaseTile::invalidateConnection);
         }
     }
 
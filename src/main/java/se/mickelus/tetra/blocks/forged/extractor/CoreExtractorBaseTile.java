@@ -10,6 +10,7 @@ import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.Direction;
 import net.minecraftforge.registries.ObjectHolder;
 import se.mickelus.tetra.TetraMod;
+import se.mickelus.tetra.blocks.HeatTransferConnection;
 import se.mickelus.tetra.blocks.IHeatTransfer;
 import se.mickelus.tetra.util.TileEntityOptional;
 
@@ -30,6 +31,8 @@ public class CoreExtractorBaseTile extends TileEntity implements ITickableTileEn
     private int currentCharge = 0;
     private float efficiency;
 
+    private final HeatTransferConnection connection = new HeatTransferConnection();
+
     public CoreExtractorBaseTile() {
         super(type);
     }
@@ -40,11 +43,10 @@ public class CoreExtractorBaseTile extends TileEntity implements ITickableTileEn
 
     @Override
     public void setReceiving(boolean receiving) {
-        if (receiving) {
+        if (receiving && isSending) {
             isSending = false;
+            notifyBlockUpdate();
         }
-
-        notifyBlockUpdate();
     }
 
     @Override
@@ -59,9 +61,10 @@ public class CoreExtractorBaseTile extends TileEntity implements ITickableTileEn
 
     @Override
     public void setSending(boolean sending) {
-        isSending = sending;
-
-        notifyBlockUpdate();
+        if (isSending != sending) {
+            isSending = sending;
+            notifyBlockUpdate();
+        }
     }
 
     @Override
@@ -168,11 +171,8 @@ public class CoreExtractorBaseTile extends TileEntity implements ITickableTileEn
 
                             markDirty();
                         } else {
-
                             setSending(false);
                             connected.setReceiving(false);
-
-                            notifyBlockUpdate();
                         }
 
                         if (canRefill()) {
@@ -181,8 +181,6 @@ public class CoreExtractorBaseTile extends TileEntity implements ITickableTileEn
                     } else {
                         setSending(false);
                         connected.setReceiving(false);
-
-                        notifyBlockUpdate();
                     }
                 });
 
@@ -199,7 +197,17 @@ public class CoreExtractorBaseTile extends TileEntity implements ITickableTileEn
     }
 
     private Optional<IHeatTransfer> getConnectedUnit() {
-        return TileEntityOptional.from(world, pos.offset(getFacing()), IHeatTransfer.class);
+        return connection.get(world, pos, getFacing());
+    }
+
+    public void invalidateConnection() {
+        connection.invalidate();
+    }
+
+    @Override
+    public void updateContainingBlockInfo() {
+        super.updateContainingBlockInfo();
+        connection.invalidate();
     }
 
     private Optional<CoreExtractorPistonTile> getPiston() {
@@ -27,6 +27,7 @@ import net.minecraftforge.registries.ObjectHolder;
 import se.mickelus.tetra.TetraMod;
 import se.mickelus.tetra.ToolTypes;
 import se.mickelus.tetra.advancements.BlockUseCriterion;
+import se.mickelus.tetra.blocks.salvage.BlockInteraction;
 import se.mickelus.tetra.blocks.salvage.IInteractiveBlock;
 import se.mickelus.tetra.blocks.workbench.AbstractWorkbenchBlock;
 import se.mickelus.tetra.items.cell.ItemCellMagmatic;
@@ -36,7 +37,6 @@ import se.mickelus.tetra.util.TileEntityOptional;
 import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.stream.Stream;
 
 public class HammerBaseTile extends TileEntity implements ITickableTileEntity {
@@ -56,6 +56,16 @@ public class HammerBaseTile extends TileEntity implements ITickableTileEntity {
     private static final String redstoneKey = "rs";
     private int redstonePower = 0;
 
+    private static final String poweredKey = "pow";
+    private boolean powered = false;
+
+    private int tickrate = 20;
+    private long nextStrike = -1;
+
+    // the interaction for the target block is cached until the target state changes or the hammer is updated
+    private BlockState cachedTargetState;
+    private BlockInteraction cachedInteraction;
+
     public HammerBaseTile() {
         super(type);
         slots = new ItemStack[2];
@@ -181,21 +191,53 @@ public class HammerBaseTile extends TileEntity implements ITickableTileEntity {
                 updatedPower += world.getRedstonePower(pos.offset(direction), direction);
             }
 
-            if (updatedPower != redstonePower){
+            boolean updatedPowered = world.isBlockPowered(pos);
+
+            if (updatedPower != redstonePower || updatedPowered != powered) {
                 redstonePower = updatedPower;
+                powered = updatedPowered;
+                updateTickrate();
                 sync();
             }
         }
     }
 
-    private int tickrate() {
+    private void updateTickrate() {
         // one powered side = 40 tickrate, two powered sides = 20 tickrate
-        return redstonePower != 0 ? (int) Math.max(600f / redstonePower, 10) : 20;
+        int updatedTickrate = redstonePower != 0 ? (int) Math.max(600f / redstonePower, 10) : 20;
+
+        if (updatedTickrate != tickrate) {
+            tickrate = updatedTickrate;
+            nextStrike = -1;
+        }
+    }
+
+    /**
+     * Strikes are aligned to multiples of the tickrate in game time, so that the client and server strike during the same tick.
+     * @return true if the hammer should strike this tick
+     */
+    private boolean isStrikeScheduled() {
+        long gameTime = world.getGameTime();
+
+        if (gameTime < nextStrike) {
+            return false;
+        }
+
+        if (gameTime > nextStrike) {
+            nextStrike = (gameTime + tickrate - 1) / tickrate * tickrate;
+
+            if (gameTime < nextStrike) {
+                return false;
+            }
+        }
+
+        nextStrike = gameTime + tickrate;
+        return true;
     }
 
     @Override
     public void tick() {
-        if (redstonePower > 0 && world.getGameTime() % tickrate() == 0 && world.isBlockPowered(pos) && isFunctional()) {
+        if (redstonePower > 0 && powered && isStrikeScheduled() && isFunctional()) {
             BlockPos targetPos = pos.down(2);
             BlockState targetState = world.getBlockState(targetPos);
 
@@ -205,31 +247,49 @@ public class HammerBaseTile extends TileEntity implements ITickableTileEntity {
                 return;
             }
 
-            CastOptional.cast(targetState.getBlock(), IInteractiveBlock.class)
-                    .map(block -> block.getPotentialInteractions(world, targetPos, targetState, Direction.UP, Collections.singletonList(ToolTypes.hammer)))
-                    .map(Arrays::stream)
-                    .orElseGet(Stream::empty)
-                    .filter(interaction -> ToolTypes.hammer.equals(interaction.requiredTool))
-                    .filter(interaction -> getHammerLevel() >= interaction.requiredLevel)
-                    .findFirst()
-                    .ifPresent(interaction -> {
-                        interaction.applyOutcome(world, targetPos, targetState, null, null, Direction.UP);
-
-                        // the workbench triggers the hammer on the server side, so no need to consume fuel and play sounds
-                        if (!(targetState.getBlock() instanceof AbstractWorkbenchBlock)) {
-                            if (!world.isRemote) {
-                                consumeFuel();
-                            } else {
-                                head.activate();
-                                world.playSound(null, pos, SoundEvents.BLOCK_ANVIL_LAND, SoundCategory.BLOCKS, 0.2f, (float) (0.5 + Math.random() * 0.2));
-                            }
-                        } else {
-                            head.activate();
-                        }
-                    });
+            BlockInteraction interaction = getTargetInteraction(targetPos, targetState);
+            if (interaction != null) {
+                interaction.applyOutcome(world, targetPos, targetState, null, null, Direction.UP);
+
+                // the workbench triggers the hammer on the server side, so no need to consume fuel and play sounds
+                if (!(targetState.getBlock() instanceof AbstractWorkbenchBlock)) {
+                    if (!world.isRemote) {
+                        consumeFuel();
+                    } else {
+                        head.activate();
+                        world.playSound(null, pos, SoundEvents.BLOCK_ANVIL_LAND, SoundCategory.BLOCKS, 0.2f, (float) (0.5 + Math.random() * 0.2));
+                    }
+                } else {
+                    head.activate();
+                }
+            }
         }
     }
 
+    /**
+     * Interactions for targets without tile entities only depend on the target state and the hammer itself, so those are cached
+     * until either changes. Targets with tile entities (e.g. workbenches) may change their interactions at any time and are looked up
+     * on every strike.
+     */
+    @Nullable
+    private BlockInteraction getTargetInteraction(BlockPos targetPos, BlockState targetState) {
+        if (targetState == cachedTargetState && !targetState.hasTileEntity()) {
+            return cachedInteraction;
+        }
+
+        cachedTargetState = targetState;
+        cachedInteraction = CastOptional.cast(targetState.getBlock(), IInteractiveBlock.class)
+                .map(block -> block.getPotentialInteractions(world, targetPos, targetState, Direction.UP, Collections.singletonList(ToolTypes.hammer)))
+                .map(Arrays::stream)
+                .orElseGet(Stream::empty)
+                .filter(interaction -> ToolTypes.hammer.equals(interaction.requiredTool))
+                .filter(interaction -> getHammerLevel() >= interaction.requiredLevel)
+                .findFirst()
+                .orElse(null);
+
+        return cachedInteraction;
+    }
+
     /**
      * Applies effects in the world when the hammer is used. Should only be called serverside as it contains random elements
      */
@@ -257,24 +317,29 @@ public class HammerBaseTile extends TileEntity implements ITickableTileEntity {
                 spawnParticle(ParticleTypes.LAVA, oppositePos, 2, 0.06f);
                 spawnParticle(ParticleTypes.LARGE_SMOKE, oppositePos, 2, 0f);
 
-                // gather flammable blocks
-                LinkedList<BlockPos> flammableBlocks = new LinkedList<>();
+                // pick random air blocks to set on fire, using reservoir sampling to avoid gathering all candidates
+                long[] firePositions = new long[count];
+                int candidates = 0;
+                BlockPos.Mutable firePos = new BlockPos.Mutable();
                 for (int x = -3; x < 3; x++) {
                     for (int y = -3; y < 2; y++) {
                         for (int z = -3; z < 3; z++) {
-                            BlockPos firePos = getPos().add(x, y, z);
+                            firePos.setPos(getPos().getX() + x, getPos().getY() + y, getPos().getZ() + z);
                             if (world.isAirBlock(firePos)) {
-                                flammableBlocks.add(firePos);
+                                int index = candidates < count ? candidates : world.rand.nextInt(candidates + 1);
+                                if (index < count) {
+                                    firePositions[index] = firePos.toLong();
+                                }
+                                candidates++;
                             }
                         }
                     }
                 }
 
                 // set blocks on fire
-                Collections.shuffle(flammableBlocks);
-                flammableBlocks.stream()
-                        .limit(count)
-                        .forEach(blockPos -> world.setBlockState(blockPos, Blocks.FIRE.getDefaultState(), 11));
+                for (int i = 0; i < Math.min(count, candidates); i++) {
+                    world.setBlockState(BlockPos.fromLong(firePositions[i]), Blocks.FIRE.getDefaultState(), 11);
+                }
             }
         }
 
@@ -407,9 +472,16 @@ public class HammerBaseTile extends TileEntity implements ITickableTileEntity {
         }
 
         redstonePower = compound.getInt(redstoneKey);
+        // hammers saved before the powered state was stored fall back to the redstone power
+        powered = compound.contains(poweredKey) ? compound.getBoolean(poweredKey) : redstonePower > 0;
+        updateTickrate();
+
+        cachedTargetState = null;
     }
 
     private void sync() {
+        cachedTargetState = null;
+
         world.notifyBlockUpdate(pos, getBlockState(), getBlockState(), 3);
         markDirty();
     }
@@ -423,6 +495,7 @@ public class HammerBaseTile extends TileEntity implements ITickableTileEntity {
         writeModules(compound, moduleA, moduleB);
 
         compound.putInt(redstoneKey, redstonePower);
+        compound.putBoolean(poweredKey, powered);
 
         return compound;
     }
@@ -256,6 +256,9 @@ public class TransferUnitBlock extends TetraWaterloggedBlock implements IInterac
         if (!pos.offset(world.getBlockState(pos).get(facingProp)).equals(fromPos)) {
             TileEntityOptional.from(world, pos, TransferUnitTile.class)
                     .ifPresent(TransferUnitTile::updateTransferState);
+        } else {
+            TileEntityOptional.from(world, pos, TransferUnitTile.class)
+                    .ifPresent(TransferUnitTile::invalidateConnection);
         }
     }
 
@@ -14,10 +14,10 @@ import net.minecraft.util.SoundEvents;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.registries.ObjectHolder;
 import se.mickelus.tetra.TetraMod;
+import se.mickelus.tetra.blocks.HeatTransferConnection;
 import se.mickelus.tetra.blocks.IHeatTransfer;
 import se.mickelus.tetra.items.cell.ItemCellMagmatic;
 import se.mickelus.tetra.util.CastOptional;
-import se.mickelus.tetra.util.TileEntityOptional;
 
 import javax.annotation.Nullable;
 import java.util.Optional;
@@ -31,6 +31,8 @@ public class TransferUnitTile extends TileEntity implements ITickableTileEntity,
     private static final int baseAmount = 8;
     private float efficiency = 1;
 
+    private final HeatTransferConnection connection = new HeatTransferConnection();
+
     public TransferUnitTile() {
         super(type);
         cell = ItemStack.EMPTY;
@@ -97,7 +99,17 @@ public class TransferUnitTile extends TileEntity implements ITickableTileEntity,
     }
 
     private Optional<IHeatTransfer> getConnectedUnit() {
-        return TileEntityOptional.from(world, pos.offset(TransferUnitBlock.getFacing(getBlockState())), IHeatTransfer.class);
+        return connection.get(world, pos, TransferUnitBlock.getFacing(getBlockState()));
+    }
+
+    public void invalidateConnection() {
+        connection.invalidate();
+    }
+
+    @Override
+    public void updateContainingBlockInfo() {
+        super.updateContainingBlockInfo();
+        connection.invalidate();
     }
 
     @Override
@@ -175,13 +187,15 @@ public class TransferUnitTile extends TileEntity implements ITickableTileEntity,
                     .ifPresent(connected -> {
                         if (connected.canRecieve()) {
                             int amount = drain(baseAmount);
-                            int overfill = connected.fill((int) (amount * efficiency));
+                            if (amount > 0) {
+                                int overfill = connected.fill((int) (amount * efficiency));
 
-                            if (overfill > 0) {
-                                fill(overfill);
-                            }
+                                if (overfill > 0) {
+                                    fill(overfill);
+                                }
 
-                            markDirty();
+                                markDirty();
+                            }
                         } else {
                             setSending(false);
                             connected.setReceiving(false);
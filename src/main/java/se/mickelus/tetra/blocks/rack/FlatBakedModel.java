@@ -0,0 +1,61 @@
+package se.mickelus.tetra.blocks.rack;
+
+import com.mojang.blaze3d.matrix.MatrixStack;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.renderer.model.BakedQuad;
+import net.minecraft.client.renderer.model.IBakedModel;
+import net.minecraft.client.renderer.model.ItemCameraTransforms;
+import net.minecraft.util.Direction;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.model.BakedModelWrapper;
+import net.minecraftforge.client.model.data.IModelData;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Simplified item model used for distant racks, only keeps the front and back faces of generated item models and drops all side quads.
+ * Should only be used for generated and modular item models, other models would lose geometry.
+ */
+@OnlyIn(Dist.CLIENT)
+public class FlatBakedModel extends BakedModelWrapper<IBakedModel> {
+    // filtered quads for each side, item models are not state dependent so these can be kept for the lifetime of the model
+    private final Map<Direction, List<BakedQuad>> quadCache = new HashMap<>();
+
+    public FlatBakedModel(IBakedModel originalModel) {
+        super(originalModel);
+    }
+
+    @Override
+    public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, Random rand) {
+        if (state == null) {
+            return quadCache.computeIfAbsent(side, s -> filter(s, originalModel.getQuads(null, s, rand)));
+        }
+        return filter(side, originalModel.getQuads(state, side, rand));
+    }
+
+    @Nonnull
+    @Override
+    public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, @Nonnull Random rand, @Nonnull IModelData extraData) {
+        return filter(side, originalModel.getQuads(state, side, rand, extraData));
+    }
+
+    private List<BakedQuad> filter(@Nullable Direction side, List<BakedQuad> quads) {
+        if (side != null && side.getAxis() != Direction.Axis.Z) {
+            return Collections.emptyList();
+        }
+
+        return quads.stream()
+                .filter(quad -> quad.getFace().getAxis() == Direction.Axis.Z)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public IBakedModel handlePerspective(ItemCameraTransforms.TransformType cameraTransformType, MatrixStack matrixStack) {
+        IBakedModel model = originalModel.handlePerspective(cameraTransformType, matrixStack);
+        return model == originalModel ? this : new FlatBakedModel(model);
+    }
+}
@@ -6,26 +6,38 @@ import net.minecraft.client.renderer.IRenderTypeBuffer;
 import net.minecraft.client.renderer.ItemRenderer;
 import net.minecraft.client.renderer.model.IBakedModel;
 import net.minecraft.client.renderer.model.ItemCameraTransforms;
+import net.minecraft.client.renderer.model.ItemOverrideList;
 import net.minecraft.client.renderer.tileentity.TileEntityRenderer;
 import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
 import net.minecraft.item.CrossbowItem;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.SwordItem;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.util.math.vector.Vector3f;
-import net.minecraft.world.World;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+import se.mickelus.tetra.ConfigHandler;
+import se.mickelus.tetra.client.model.ModularModelLoader;
+import se.mickelus.tetra.client.model.ModularOverrideList;
 import se.mickelus.tetra.items.modular.impl.ModularBladedItem;
 import se.mickelus.tetra.items.modular.impl.crossbow.ModularCrossbowItem;
 import se.mickelus.tetra.items.modular.impl.shield.ModularShieldItem;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 @OnlyIn(Dist.CLIENT)
 public class RackTESR extends TileEntityRenderer<RackTile> {
 
     private ItemRenderer itemRenderer;
 
+    // baked models for the items on each rack, resolved once per inventory change instead of every frame. Null for items with models
+    // that can't be cached
+    private final Map<RackTile, RackModels> modelCache = new WeakHashMap<>();
+
     public RackTESR(TileEntityRendererDispatcher dispatcher) {
         super(dispatcher);
         itemRenderer = Minecraft.getInstance().getItemRenderer();
@@ -34,6 +46,7 @@ public class RackTESR extends TileEntityRenderer<RackTile> {
     @Override
     public void render(RackTile tile, float partialTicks, MatrixStack matrixStack, IRenderTypeBuffer buffer, int combinedLight, int combinedOverlay) {
         tile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY).ifPresent(handler -> {
+            IBakedModel[] models = getModels(tile, handler, isFlat(tile));
             Direction direction = tile.getBlockState().get(RackBlock.facingProp);
             Direction itemDirection = direction.rotateYCCW();
 
@@ -43,10 +56,13 @@ public class RackTESR extends TileEntityRenderer<RackTile> {
             for (int i = 0; i < handler.getSlots(); i++) {
                 ItemStack itemStack = handler.getStackInSlot(i);
                 if (!itemStack.isEmpty()) {
+                    // models that depend on the world or time (e.g. clocks and compasses) are not cached and are resolved every frame
+                    IBakedModel model = models[i] != null ? models[i] : itemRenderer.getItemModelWithOverrides(itemStack, tile.getWorld(), null);
+
                     matrixStack.push();
                     matrixStack.translate(itemDirection.getXOffset() * (i - 0.5), 0, itemDirection.getZOffset() * (i - 0.5));
                     matrixStack.rotate(direction.getRotation());
-                    renderItemStack(tile.getWorld(), itemStack, matrixStack, buffer, combinedLight, combinedOverlay);
+                    renderItemStack(itemStack, model, matrixStack, buffer, combinedLight, combinedOverlay);
                     matrixStack.pop();
                 }
             }
@@ -54,11 +70,50 @@ public class RackTESR extends TileEntityRenderer<RackTile> {
         });
     }
 
-    private void renderItemStack(World world, ItemStack itemStack, MatrixStack matrixStack, IRenderTypeBuffer buffer,
-            int combinedLight, int combinedOverlay) {
-        if (itemStack != null && !itemStack.isEmpty()) {
+    private boolean isFlat(RackTile tile) {
+        int flatDistance = ConfigHandler.rackFlatDistance.get();
+        return flatDistance > 0
+                && renderDispatcher.renderInfo.getProjectedView().squareDistanceTo(Vector3d.copyCentered(tile.getPos())) > flatDistance * flatDistance;
+    }
+
+    private IBakedModel[] getModels(RackTile tile, IItemHandler handler, boolean flat) {
+        IBakedModel missingModel = itemRenderer.getItemModelMesher().getModelManager().getMissingModel();
+        int generation = ModularModelLoader.getCacheGeneration();
 
-            IBakedModel model = itemRenderer.getItemModelWithOverrides(itemStack, world, null);
+        RackModels models = modelCache.get(tile);
+        if (models == null || models.revision != tile.getRevision() || models.generation != generation || models.missingModel != missingModel) {
+            models = new RackModels(tile.getRevision(), generation, missingModel, handler.getSlots());
+            for (int i = 0; i < handler.getSlots(); i++) {
+                ItemStack itemStack = handler.getStackInSlot(i);
+                if (!itemStack.isEmpty()) {
+                    ItemOverrideList overrides = itemRenderer.getItemModelMesher().getItemModel(itemStack).getOverrides();
+                    boolean isModular = overrides instanceof ModularOverrideList;
+
+                    // only modular models and models without overrides are known to not depend on anything but the itemstack
+                    if (isModular || overrides == ItemOverrideList.EMPTY) {
+                        IBakedModel model = itemRenderer.getItemModelWithOverrides(itemStack, tile.getWorld(), null);
+                        models.models[i] = model;
+                        models.flatModels[i] = isModular || isGenerated(model) ? new FlatBakedModel(model) : model;
+                    }
+                }
+            }
+            modelCache.put(tile, models);
+        }
+
+        return flat ? models.flatModels : models.models;
+    }
+
+    /**
+     * Generated item models are flat sprites extruded into a thin layer, other models (e.g. block items) have geometry that would be lost
+     * if only front and back faces were kept
+     */
+    private static boolean isGenerated(IBakedModel model) {
+        return !model.isGui3d() && !model.isBuiltInRenderer();
+    }
+
+    private void renderItemStack(ItemStack itemStack, IBakedModel model, MatrixStack matrixStack, IRenderTypeBuffer buffer,
+            int combinedLight, int combinedOverlay) {
+        if (itemStack != null && !itemStack.isEmpty() && model != null) {
 
             matrixStack.rotate(Vector3f.XP.rotationDegrees(-90.0F));
             matrixStack.rotate(Vector3f.YP.rotationDegrees(180.0F));
@@ -78,9 +133,25 @@ public class RackTESR extends TileEntityRenderer<RackTile> {
                 matrixStack.rotate(Vector3f.ZP.rotationDegrees(-45.0F));
             }
 
-            Minecraft.getInstance().getItemRenderer().renderItem(itemStack, ItemCameraTransforms.TransformType.FIXED, combinedLight, combinedOverlay,
-                    matrixStack, buffer);
+            itemRenderer.renderItem(itemStack, ItemCameraTransforms.TransformType.FIXED, false, matrixStack, buffer, combinedLight,
+                    combinedOverlay, model);
+
+        }
+    }
+
+    private static class RackModels {
+        final int revision;
+        final int generation;
+        final IBakedModel missingModel;
+        final IBakedModel[] models;
+        final IBakedModel[] flatModels;
 
+        RackModels(int revision, int generation, IBakedModel missingModel, int slots) {
+            this.revision = revision;
+            this.generation = generation;
+            this.missingModel = missingModel;
+            models = new IBakedModel[slots];
+            flatModels = new IBakedModel[slots];
         }
     }
 }
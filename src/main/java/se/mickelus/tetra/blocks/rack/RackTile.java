@@ -13,10 +13,13 @@ import net.minecraft.util.Hand;
 import net.minecraft.util.SoundEvents;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.shapes.VoxelShapes;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.registries.ObjectHolder;
+import se.mickelus.tetra.ConfigHandler;
 import se.mickelus.tetra.TetraMod;
 
 import javax.annotation.Nonnull;
@@ -31,8 +34,13 @@ public class RackTile extends TileEntity {
     private static final String inventoryKey = "inv";
 
     public static final int inventorySize = 2;
+
+    // incremented when the inventory changes, used by the renderer to know when cached models are outdated
+    private int revision = 0;
+
     private LazyOptional<ItemStackHandler> handler = LazyOptional.of(() -> new ItemStackHandler(inventorySize) {
         protected void onContentsChanged(int slot) {
+            revision++;
             markDirty();
             world.notifyBlockUpdate(pos, getBlockState(), getBlockState(), 3);
         }
@@ -70,6 +78,17 @@ public class RackTile extends TileEntity {
         });
     }
 
+    public int getRevision() {
+        return revision;
+    }
+
+    @Override
+    @OnlyIn(Dist.CLIENT)
+    public double getMaxRenderDistanceSquared() {
+        int distance = ConfigHandler.rackRenderDistance.get();
+        return distance * distance;
+    }
+
     @Override
     public AxisAlignedBB getRenderBoundingBox() {
         return VoxelShapes.fullCube().getBoundingBox().offset(pos);
@@ -96,6 +115,7 @@ public class RackTile extends TileEntity {
         super.read(blockState, compound);
 
         handler.ifPresent(handler -> handler.deserializeNBT(compound.getCompound(inventoryKey)));
+        revision++;
     }
 
     @Override
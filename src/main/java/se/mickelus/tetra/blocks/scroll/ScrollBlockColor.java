@@ -0,0 +1,36 @@
+package se.mickelus.tetra.blocks.scroll;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.client.renderer.color.IBlockColor;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockDisplayReader;
+import se.mickelus.tetra.util.CastOptional;
+
+import javax.annotation.Nullable;
+
+public class ScrollBlockColor implements IBlockColor {
+    @Override
+    public int getColor(BlockState state, @Nullable IBlockDisplayReader world, @Nullable BlockPos pos, int tintIndex) {
+        if (world == null || pos == null) {
+            return 0xffffff;
+        }
+
+        ScrollData[] scrolls = CastOptional.cast(world.getTileEntity(pos), ScrollTile.class)
+                .map(ScrollTile::getScrolls)
+                .orElse(null);
+
+        if (scrolls == null || scrolls.length == 0) {
+            return 0xffffff;
+        }
+
+        if (tintIndex == ScrollModel.glyphTint) {
+            return ScrollModel.getGlyphColor(scrolls[0].material);
+        }
+
+        if (tintIndex >= 0 && tintIndex < scrolls.length) {
+            return scrolls[tintIndex].ribbon;
+        }
+
+        return 0xffffff;
+    }
+}
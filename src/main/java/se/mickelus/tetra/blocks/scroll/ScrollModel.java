@@ -0,0 +1,289 @@
+package se.mickelus.tetra.blocks.scroll;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.mojang.blaze3d.matrix.MatrixStack;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.renderer.model.*;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.state.properties.BlockStateProperties;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.vector.Vector3f;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.model.data.IDynamicBakedModel;
+import net.minecraftforge.client.model.data.IModelData;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import se.mickelus.tetra.client.model.BakedQuadCollector;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Block model for placed scrolls, the geometry depends on the scrolls in the tile and is baked into quads on the first time a
+ * combination of materials and glyphs is seen, so that scrolls are part of the chunk mesh. Ribbon and glyph colors are applied through
+ * tint indices, see {@link ScrollBlockColor}.
+ */
+@OnlyIn(Dist.CLIENT)
+public class ScrollModel implements IDynamicBakedModel {
+    private static final Logger logger = LogManager.getLogger();
+
+    // tint indices 0-5 are used for the ribbons of each scroll
+    public static final int glyphTint = 6;
+
+    private static final int availableGlyphs = 16;
+    private static final int availableMaterials = 3;
+
+    private static ModelRenderer[] rolledModel;
+    private static ModelRenderer ribbonModel;
+    private static ModelRenderer[] wallModel;
+    private static QuadRenderer[][] wallGlyphs;
+
+    private static ModelRenderer[] openModel;
+    private static QuadRenderer[][] openGlyphs;
+
+    static {
+        rolledModel = new ModelRenderer[availableMaterials];
+        wallModel = new ModelRenderer[availableMaterials];
+        openModel = new ModelRenderer[availableMaterials];
+        for (int i = 0; i < availableMaterials; i++) {
+            rolledModel[i] = new ModelRenderer(128, 64, 34 * i, 4);
+            rolledModel[i].addBox(1, 0, 7, 14, 3, 3, 0);
+
+            wallModel[i] = new ModelRenderer(128, 64, 34 * i, 0);
+            wallModel[i].addBox(1, 14, 0, 14, 2, 2, 0);
+            wallModel[i].addBox("face", 1, 1, 0.05f, 14, 13, 0, 0, 34 * i, 10);
+
+            openModel[i] = new ModelRenderer(128, 64, 34 * i, 0);
+            openModel[i].addBox(1, 0, 0, 14, 2, 2, 0);
+            openModel[i].addBox(1, 0, 14, 14, 2, 2, 0);
+            openModel[i].addBox("face", 1, 0.05f, 2, 14, 0, 12, 0, 34 * i -12, 10);
+
+        }
+
+        ribbonModel = new ModelRenderer(128, 64, 0, 23);
+        ribbonModel.addBox(7, 0, 7, 2, 3, 3, 0.001f);
+
+        wallGlyphs = new QuadRenderer[2][];
+        for (int i = 0; i < wallGlyphs.length; i++) {
+            wallGlyphs[i] = new QuadRenderer[availableGlyphs];
+        }
+        for (int i = 0; i < availableGlyphs; i++) {
+            wallGlyphs[0][i] = new QuadRenderer(8, 1, 0.075f, 7, 13, i * 7, 51, 128, 64, true, Direction.SOUTH);
+            wallGlyphs[1][i] = new QuadRenderer(1, 1, 0.075f, 7, 13, i * 7, 51, 128, 64, false, Direction.SOUTH);
+        }
+
+        openGlyphs = new QuadRenderer[4][];
+        for (int i = 0; i < openGlyphs.length; i++) {
+            openGlyphs[i] = new QuadRenderer[availableGlyphs];
+        }
+        for (int i = 0; i < availableGlyphs; i++) {
+            openGlyphs[0][i] = new QuadRenderer(1, 0.075f, 2, 7, 6, i * 7, 58, 128, 64, true, Direction.UP);
+            openGlyphs[1][i] = new QuadRenderer(8, 0.075f, 2, 7, 6, i * 7, 58, 128, 64, false, Direction.UP);
+            openGlyphs[2][i] = new QuadRenderer(1, 0.075f, 2, 7, 6, i * 7, 58, 128, 64, true, Direction.UP);
+            openGlyphs[3][i] = new QuadRenderer(8, 0.075f, 2, 7, 6, i * 7, 58, 128, 64, false, Direction.UP);
+        }
+    }
+
+    private final IBakedModel original;
+    private final ScrollBlock.Arrangement arrangement;
+
+    // quads keyed by the materials and glyphs used by the scrolls
+    private final Cache<List<Integer>, List<BakedQuad>> quadCache = CacheBuilder.newBuilder()
+            .maximumSize(200)
+            .build();
+
+    public ScrollModel(IBakedModel original, ScrollBlock.Arrangement arrangement) {
+        this.original = original;
+        this.arrangement = arrangement;
+    }
+
+    public static int getGlyphColor(int material) {
+        switch (material) {
+            case 2:
+                return 0xbfa12a;
+            case 1:
+                return 0x8f9bcc;
+            default:
+            case 0:
+                return 0x665f47;
+        }
+    }
+
+    @Nonnull
+    @Override
+    public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, @Nonnull Random rand, @Nonnull IModelData extraData) {
+        ScrollData[] scrolls = extraData.getData(ScrollTile.scrollsProperty);
+        if (side != null || state == null || scrolls == null || scrolls.length == 0) {
+            return Collections.emptyList();
+        }
+
+        Direction direction = state.get(BlockStateProperties.HORIZONTAL_FACING);
+        List<Integer> key = getKey(scrolls, direction);
+        try {
+            return quadCache.get(key, () -> bake(scrolls, direction));
+        } catch (ExecutionException e) {
+            logger.warn("Failed to bake scroll model", e);
+            return Collections.emptyList();
+        }
+    }
+
+    private List<Integer> getKey(ScrollData[] scrolls, Direction direction) {
+        List<Integer> key = new ArrayList<>();
+        key.add(direction.getIndex());
+
+        if (arrangement == ScrollBlock.Arrangement.rolled) {
+            for (int i = 0; i < scrolls.length; i++) {
+                key.add(getMaterial(scrolls, i));
+            }
+        } else {
+            key.add(getMaterial(scrolls, 0));
+            for (int i = 0; i < 4; i++) {
+                key.add(getGlyph(scrolls, i));
+            }
+        }
+
+        return key;
+    }
+
+    private List<BakedQuad> bake(ScrollData[] scrolls, Direction direction) {
+        BakedQuadCollector collector = new BakedQuadCollector(ScrollRenderer.material.getSprite());
+        MatrixStack matrixStack = new MatrixStack();
+
+        matrixStack.translate(0.5, 0, 0.5);
+        matrixStack.rotate(direction.getRotation());
+        matrixStack.rotate(Vector3f.XN.rotationDegrees(90));
+        matrixStack.translate(-0.5, 0, -0.5);
+
+        switch (arrangement) {
+            case rolled:
+                bakeRolled(scrolls, matrixStack, collector);
+                break;
+            case wall:
+                bakeWall(scrolls, matrixStack, collector);
+                break;
+            case open:
+                bakeOpen(scrolls, matrixStack, collector);
+                break;
+        }
+
+        return collector.getQuads();
+    }
+
+    private void bakeRolled(ScrollData[] scrolls, MatrixStack matrixStack, BakedQuadCollector collector) {
+        matrixStack.translate(0.5, 0, 0.5);
+        matrixStack.rotate(Vector3f.YN.rotationDegrees(90));
+        matrixStack.translate(-0.5, 0, -0.5);
+        int offset = Math.min(scrolls.length, 3) - 1;
+        if (offset > 0) {
+            matrixStack.translate(0, 0, offset * -0.125); // 2px
+        }
+
+        for (int i = 0; i < scrolls.length; i++) {
+            int mat = getMaterial(scrolls, i);
+
+            collector.setTintIndex(-1);
+            rolledModel[mat].render(matrixStack, collector, 0, OverlayTexture.NO_OVERLAY);
+            collector.setTintIndex(i);
+            ribbonModel.render(matrixStack, collector, 0, OverlayTexture.NO_OVERLAY);
+
+            matrixStack.translate(0, 0, 0.25f); // 4px
+
+            if (i == 2) {
+                matrixStack.translate(0, 0.1875, -0.625); // 10px
+            } else if (i == 4) {
+                matrixStack.translate(0, 0.1875, -0.375); // 6px
+            }
+        }
+    }
+
+    private void bakeWall(ScrollData[] scrolls, MatrixStack matrixStack, BakedQuadCollector collector) {
+        int mat = getMaterial(scrolls, 0);
+
+        collector.setTintIndex(-1);
+        wallModel[mat].render(matrixStack, collector, 0, OverlayTexture.NO_OVERLAY);
+
+        collector.setTintIndex(glyphTint);
+        for (int i = 0; i < wallGlyphs.length; i++) {
+            int glyph = getGlyph(scrolls, i);
+            wallGlyphs[i][glyph].render(matrixStack, collector, 0, OverlayTexture.NO_OVERLAY, 1, 1, 1, 1);
+        }
+    }
+
+    private void bakeOpen(ScrollData[] scrolls, MatrixStack matrixStack, BakedQuadCollector collector) {
+        int mat = getMaterial(scrolls, 0);
+
+        matrixStack.translate(0.5, 0, 0.5);
+        matrixStack.rotate(Vector3f.YN.rotationDegrees(90));
+        matrixStack.translate(-0.5, 0, -0.5);
+
+        collector.setTintIndex(-1);
+        openModel[mat].render(matrixStack, collector, 0, OverlayTexture.NO_OVERLAY);
+
+        collector.setTintIndex(glyphTint);
+        for (int i = 0; i < openGlyphs.length; i++) {
+            if (i == 2) {
+                matrixStack.translate(0.5, 0, 0.5);
+                matrixStack.rotate(Vector3f.YN.rotationDegrees(180));
+                matrixStack.translate(-0.5, 0, -0.5);
+            }
+
+            int glyph = getGlyph(scrolls, i);
+            openGlyphs[i][glyph].render(matrixStack, collector, 0, OverlayTexture.NO_OVERLAY, 1, 1, 1, 1);
+        }
+    }
+
+    private static int getGlyph(ScrollData[] data, int index) {
+        if (data.length > 0) {
+            if (data[0].glyphs.size() > index) {
+                return MathHelper.clamp(data[0].glyphs.get(index), 0, availableGlyphs - 1);
+            }
+            if (data[0].glyphs.size() > 0) {
+                return MathHelper.clamp(data[0].glyphs.get(0), 0, availableGlyphs - 1);
+            }
+        }
+        return 0;
+    }
+
+    private static int getMaterial(ScrollData[] data, int index) {
+        if (data.length > index) {
+            return MathHelper.clamp(data[index].material, 0, availableMaterials - 1);
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean isAmbientOcclusion() {
+        return false;
+    }
+
+    @Override
+    public boolean isGui3d() {
+        return false;
+    }
+
+    @Override
+    public boolean isSideLit() {
+        return original.isSideLit();
+    }
+
+    @Override
+    public boolean isBuiltInRenderer() {
+        return false;
+    }
+
+    @Override
+    public TextureAtlasSprite getParticleTexture() {
+        return original.getParticleTexture();
+    }
+
+    @Override
+    public ItemOverrideList getOverrides() {
+        return ItemOverrideList.EMPTY;
+    }
+}
@@ -10,10 +10,15 @@ import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.shapes.VoxelShapes;
+import net.minecraftforge.client.model.data.IModelData;
+import net.minecraftforge.client.model.data.ModelDataMap;
+import net.minecraftforge.client.model.data.ModelProperty;
+import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.registries.ObjectHolder;
 import org.apache.commons.lang3.ArrayUtils;
 import se.mickelus.tetra.TetraMod;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
 
@@ -23,6 +28,8 @@ public class ScrollTile extends TileEntity {
     @ObjectHolder(TetraMod.MOD_ID + ":" + unlocalizedName)
     public static TileEntityType<ScrollTile> type;
 
+    public static final ModelProperty<ScrollData[]> scrollsProperty = new ModelProperty<>();
+
     private static final String scrollsKey = "scrolls";
     private ScrollData[] scrolls = new ScrollData[0];
 
@@ -38,6 +45,7 @@ public class ScrollTile extends TileEntity {
         if (scrolls.length < 6) {
             scrolls = ArrayUtils.add(scrolls, ScrollData.read(itemStack));
             markDirty();
+            onScrollsChanged();
             return true;
         }
         return false;
@@ -74,6 +82,27 @@ public class ScrollTile extends TileEntity {
                 .toArray(CompoundNBT[]::new);
     }
 
+    /**
+     * Scrolls are rendered as part of the chunk so the chunk has to be rebuilt on the client when scrolls change, the server sends the
+     * new scrolls to clients
+     */
+    private void onScrollsChanged() {
+        if (world != null) {
+            if (world.isRemote) {
+                requestModelDataUpdate();
+            }
+            world.notifyBlockUpdate(pos, getBlockState(), getBlockState(), Constants.BlockFlags.DEFAULT);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public IModelData getModelData() {
+        return new ModelDataMap.Builder()
+                .withInitial(scrollsProperty, scrolls)
+                .build();
+    }
+
     @Override
     public AxisAlignedBB getRenderBoundingBox() {
         return VoxelShapes.fullCube().getBoundingBox().offset(pos);
@@ -93,6 +122,7 @@ public class ScrollTile extends TileEntity {
     @Override
     public void onDataPacket(NetworkManager net, SUpdateTileEntityPacket pkt) {
         read(getBlockState(), pkt.getNbtCompound());
+        onScrollsChanged();
     }
 
     @Override
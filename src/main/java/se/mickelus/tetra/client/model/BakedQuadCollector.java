@@ -0,0 +1,103 @@
+package se.mickelus.tetra.client.model;
+
+import com.google.common.collect.ImmutableList;
+import com.mojang.blaze3d.vertex.IVertexBuilder;
+import net.minecraft.client.renderer.model.BakedQuad;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.util.Direction;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Vertex builder that collects quads rendered through it as baked quads, used to bake geometry that is set up for entity style
+ * rendering (e.g. {@link net.minecraft.client.renderer.model.ModelRenderer}) into block models. Texture coordinates are expected to be
+ * relative to the sprite and are mapped into the atlas, vertex colors are discarded in favour of the current tint index. Lighting and
+ * overlay is left to the block renderer.
+ */
+@OnlyIn(Dist.CLIENT)
+public class BakedQuadCollector implements IVertexBuilder {
+    private static final int vertexSize = 8;
+
+    private final TextureAtlasSprite sprite;
+    private final ImmutableList.Builder<BakedQuad> quads = ImmutableList.builder();
+
+    private int tintIndex = -1;
+
+    private int[] vertexData = new int[vertexSize * 4];
+    private int vertexIndex = 0;
+    private float normalX;
+    private float normalY;
+    private float normalZ;
+
+    public BakedQuadCollector(TextureAtlasSprite sprite) {
+        this.sprite = sprite;
+    }
+
+    /**
+     * Sets the tint index used for quads rendered after this call, -1 for no tint
+     */
+    public void setTintIndex(int tintIndex) {
+        this.tintIndex = tintIndex;
+    }
+
+    public ImmutableList<BakedQuad> getQuads() {
+        return quads.build();
+    }
+
+    @Override
+    public IVertexBuilder pos(double x, double y, double z) {
+        int offset = vertexIndex * vertexSize;
+        vertexData[offset] = Float.floatToRawIntBits((float) x);
+        vertexData[offset + 1] = Float.floatToRawIntBits((float) y);
+        vertexData[offset + 2] = Float.floatToRawIntBits((float) z);
+        vertexData[offset + 3] = -1;
+        vertexData[offset + 6] = 0;
+        return this;
+    }
+
+    @Override
+    public IVertexBuilder color(int red, int green, int blue, int alpha) {
+        return this;
+    }
+
+    @Override
+    public IVertexBuilder tex(float u, float v) {
+        int offset = vertexIndex * vertexSize;
+        vertexData[offset + 4] = Float.floatToRawIntBits(sprite.getInterpolatedU(u * 16));
+        vertexData[offset + 5] = Float.floatToRawIntBits(sprite.getInterpolatedV(v * 16));
+        return this;
+    }
+
+    @Override
+    public IVertexBuilder overlay(int u, int v) {
+        return this;
+    }
+
+    @Override
+    public IVertexBuilder lightmap(int u, int v) {
+        return this;
+    }
+
+    @Override
+    public IVertexBuilder normal(float x, float y, float z) {
+        vertexData[vertexIndex * vertexSize + 7] = ((int) (x * 127) & 0xFF)
+                | (((int) (y * 127) & 0xFF) << 8)
+                | (((int) (z * 127) & 0xFF) << 16);
+
+        normalX = x;
+        normalY = y;
+        normalZ = z;
+        return this;
+    }
+
+    @Override
+    public void endVertex() {
+        vertexIndex++;
+
+        if (vertexIndex == 4) {
+            quads.add(new BakedQuad(vertexData, tintIndex, Direction.getFacingFromVector(normalX, normalY, normalZ), sprite, true));
+            vertexData = new int[vertexSize * 4];
+            vertexIndex = 0;
+        }
+    }
+}
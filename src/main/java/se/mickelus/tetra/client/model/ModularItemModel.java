@@ -16,6 +16,7 @@ import net.minecraftforge.client.model.geometry.IModelGeometry;
 import net.minecraftforge.client.model.pipeline.BakedQuadBuilder;
 import net.minecraftforge.client.model.pipeline.IVertexConsumer;
 import net.minecraftforge.client.model.pipeline.TRSRTransformer;
+import se.mickelus.tetra.ConfigHandler;
 import se.mickelus.tetra.module.data.ModuleModel;
 
 import java.util.*;
@@ -83,12 +84,17 @@ public final class ModularItemModel implements IModelGeometry<ModularItemModel>
 
         TransformationMatrix rotationTransform = modelTransform.getRotation();
         ImmutableMap<ItemCameraTransforms.TransformType, TransformationMatrix> transforms = PerspectiveMapWrapper.getTransforms(modelTransform);
+        TextureAtlasSprite[] sprites = moduleModels.stream()
+                .map(model -> spriteGetter.apply(new RenderMaterial(AtlasTexture.LOCATION_BLOCKS_TEXTURE, model.location)))
+                .toArray(TextureAtlasSprite[]::new);
+        int[][] edges = ConfigHandler.modelLayerCulling.get() ? getUncoveredEdges(sprites) : getEdges(sprites);
+
         for(int i = 0; i < moduleModels.size(); i++) {
-            ModuleModel model = moduleModels.get(i);
-            TextureAtlasSprite sprite = spriteGetter.apply(new RenderMaterial(AtlasTexture.LOCATION_BLOCKS_TEXTURE, model.location));
-            builder.addAll(getQuadsForSprite(i, sprite, rotationTransform, model.tint));
+            if (edges[i] != null) {
+                builder.addAll(getQuadsForSprite(i, sprites[i], rotationTransform, moduleModels.get(i).tint, edges[i]));
+            }
 
-            particle = sprite;
+            particle = sprites[i];
         }
 
         return new BakedPerspectiveModel(builder.build(), particle, transforms, overrides, rotationTransform.isIdentity(), owner.isSideLit(),
@@ -122,21 +128,53 @@ public final class ModularItemModel implements IModelGeometry<ModularItemModel>
         return cameraTransforms;
     }
 
-    public static List<BakedQuad> getQuadsForSprite(int tintIndex, TextureAtlasSprite sprite, TransformationMatrix transform, int color) {
-        ImmutableList.Builder<BakedQuad> builder = ImmutableList.builder();
+    private static int[][] getEdges(TextureAtlasSprite[] sprites) {
+        return Arrays.stream(sprites)
+                .map(SpriteMask::get)
+                .map(SpriteMask::getEdges)
+                .toArray(int[][]::new);
+    }
 
-        int uMax = sprite.getWidth();
-        int vMax = sprite.getHeight();
+    /**
+     * Culls geometry that is hidden by layers above it. Side quads next to pixels covered by a solid pixel in a layer above are
+     * left out, layers that are completely covered are left out entirely (null in the returned array). Layers are only culled against
+     * layers of the same size.
+     */
+    private static int[][] getUncoveredEdges(TextureAtlasSprite[] sprites) {
+        int[][] result = new int[sprites.length][];
+        Map<Long, boolean[]> coverage = new HashMap<>();
+
+        for (int i = sprites.length - 1; i >= 0; i--) {
+            SpriteMask mask = SpriteMask.get(sprites[i]);
+            long size = ((long) mask.getWidth() << 32) | mask.getHeight();
+            boolean[] covered = coverage.get(size);
+            if (covered == null) {
+                result[i] = mask.getEdges();
+                covered = new boolean[mask.getWidth() * mask.getHeight()];
+                coverage.put(size, covered);
+            } else if (!mask.isCovered(covered)) {
+                result[i] = mask.getEdges(covered);
+            }
 
-        // todo: figure out why this doesn't work when considering fully transparent rows
-        for (int v = 0; v < vMax; v++) {
-            builder.add(buildSideQuad(transform, Direction.UP, tintIndex, color, sprite, 0, v, uMax));
-            builder.add(buildSideQuad(transform, Direction.DOWN, tintIndex, color, sprite, 0, v + 1, uMax));
+            mask.cover(covered);
         }
 
-        for (int u = 0; u < uMax; u++) {
-            builder.add(buildSideQuad(transform, Direction.EAST, tintIndex, color, sprite, u + 1, 0, vMax));
-            builder.add(buildSideQuad(transform, Direction.WEST, tintIndex, color, sprite, u, 0, vMax));
+        return result;
+    }
+
+    public static List<BakedQuad> getQuadsForSprite(int tintIndex, TextureAtlasSprite sprite, TransformationMatrix transform, int color) {
+        return getQuadsForSprite(tintIndex, sprite, transform, color, SpriteMask.get(sprite).getEdges());
+    }
+
+    /**
+     * @param edges edge runs as returned by {@link SpriteMask#getEdges()}, a side quad is generated for each run
+     */
+    public static List<BakedQuad> getQuadsForSprite(int tintIndex, TextureAtlasSprite sprite, TransformationMatrix transform, int color,
+            int[] edges) {
+        ImmutableList.Builder<BakedQuad> builder = ImmutableList.builder();
+
+        for (int i = 0; i < edges.length; i += 4) {
+            builder.add(buildSideQuad(transform, Direction.byIndex(edges[i]), tintIndex, color, sprite, edges[i + 1], edges[i + 2], edges[i + 3]));
         }
 
         // front
@@ -1,21 +1,34 @@
 package se.mickelus.tetra.client.model;
 
 import com.google.common.reflect.TypeToken;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonObject;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.ItemModelMesher;
+import net.minecraft.client.renderer.model.IBakedModel;
 import net.minecraft.client.renderer.model.ItemCameraTransforms;
+import net.minecraft.item.ItemStack;
 import net.minecraft.resources.IResourceManager;
+import net.minecraft.util.NonNullList;
 import net.minecraftforge.client.model.IModelLoader;
 import net.minecraftforge.resource.IResourceType;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import se.mickelus.tetra.ClientScheduler;
+import se.mickelus.tetra.ConfigHandler;
 import se.mickelus.tetra.data.DataManager;
+import se.mickelus.tetra.items.TetraItemGroup;
+import se.mickelus.tetra.items.modular.IModularItem;
 
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public class ModularModelLoader implements IModelLoader<ModularItemModel> {
 
@@ -24,6 +37,19 @@ public class ModularModelLoader implements IModelLoader<ModularItemModel> {
     private static List<ModularItemModel> newModels = new LinkedList<>();
     private static List<ModularItemModel> models = new LinkedList<>();
 
+    private static volatile int cacheGeneration = 0;
+
+    // prebaking runs on a single low priority thread so that it can't compete with the server or worldgen threads, at most one batch
+    // is queued and older queued batches are dropped as they would be outdated anyway
+    private static final ExecutorService prebakeExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1),
+            new ThreadFactoryBuilder()
+                    .setNameFormat("tetra-prebake-%d")
+                    .setDaemon(true)
+                    .setPriority(Thread.MIN_PRIORITY)
+                    .build(),
+            new ThreadPoolExecutor.DiscardOldestPolicy());
+
     public ModularModelLoader() {
         // module data is the last data store that contains model information
         DataManager.moduleData.onReload(ModularModelLoader::clearCaches);
@@ -44,6 +70,65 @@ public class ModularModelLoader implements IModelLoader<ModularItemModel> {
         shuffle();
         logger.info("Clearing model cache for {} items, let's get bakin'", models.size());
         models.forEach(ModularItemModel::clearCache);
+        cacheGeneration++;
+
+        if (ConfigHandler.modelPrebake.get()) {
+            ClientScheduler.schedule("prebake_models", 0, ModularModelLoader::prebake);
+        }
+    }
+
+    /**
+     * Incremented every time the model caches are cleared, used to invalidate baked models held onto elsewhere
+     */
+    public static int getCacheGeneration() {
+        return cacheGeneration;
+    }
+
+    /**
+     * Bakes models for modular items in the player inventory and the creative tab on a background thread, so that they are already cached
+     * when first rendered. Itemstacks are gathered on the client thread, baking goes through the regular override cache so a
+     * model requested by the renderer while it's being baked is only baked once.
+     */
+    private static void prebake() {
+        Minecraft mc = Minecraft.getInstance();
+        List<ItemStack> itemStacks = new ArrayList<>();
+
+        if (mc.player != null) {
+            Stream.of(mc.player.inventory.mainInventory, mc.player.inventory.armorInventory, mc.player.inventory.offHandInventory)
+                    .flatMap(Collection::stream)
+                    .filter(itemStack -> itemStack.getItem() instanceof IModularItem)
+                    .map(ItemStack::copy)
+                    .forEach(itemStacks::add);
+        }
+
+        NonNullList<ItemStack> creativeStacks = NonNullList.create();
+        TetraItemGroup.instance.fill(creativeStacks);
+        creativeStacks.stream()
+                .filter(itemStack -> itemStack.getItem() instanceof IModularItem)
+                .forEach(itemStacks::add);
+
+        ItemModelMesher modelMesher = mc.getItemRenderer().getItemModelMesher();
+        List<Pair<IBakedModel, ItemStack>> batch = new ArrayList<>();
+        for (ItemStack itemStack : itemStacks) {
+            IBakedModel model = modelMesher.getItemModel(itemStack);
+            if (model.getOverrides() instanceof ModularOverrideList) {
+                batch.add(Pair.of(model, itemStack));
+            }
+        }
+
+        int generation = cacheGeneration;
+        prebakeExecutor.execute(() -> {
+            for (Pair<IBakedModel, ItemStack> entry : batch) {
+                // caches have been cleared since the batch was gathered, a new batch will be scheduled
+                if (generation != cacheGeneration) {
+                    return;
+                }
+
+                ((ModularOverrideList) entry.getLeft().getOverrides()).prebake(entry.getLeft(), entry.getRight());
+            }
+        });
+
+        logger.debug("Prebaking models for {} items", batch.size());
     }
 
     @Override
@@ -2,6 +2,7 @@ package se.mickelus.tetra.client.model;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import net.minecraft.client.renderer.model.*;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.world.ClientWorld;
@@ -27,7 +28,7 @@ import java.util.function.Function;
 public class ModularOverrideList extends ItemOverrideList {
     private static final Logger logger = LogManager.getLogger();
 
-    private Cache<CacheKey, IBakedModel> bakedModelCache = CacheBuilder.newBuilder()
+    private Cache<CacheKey, IBakedModel[]> bakedModelCache = CacheBuilder.newBuilder()
             .maximumSize(1000)
             .expireAfterWrite(5, TimeUnit.MINUTES)
             .build();
@@ -65,7 +66,11 @@ public class ModularOverrideList extends ItemOverrideList {
             CacheKey key = getCacheKey(stack, entity, originalModel);
 
             try {
-                result = bakedModelCache.get(key, () -> getOverrideModel(stack, world, entity));
+                IBakedModel[] stageModels = bakedModelCache.get(key, () -> getOverrideModels(stack, world, entity));
+                int stage = ((IModularItem) stack.getItem()).getModelStage(stack, entity);
+                if (stage >= 0 && stage < stageModels.length) {
+                    result = stageModels[stage];
+                }
             } catch(ExecutionException e) {
                 // do nothing, return original model
                 e.printStackTrace();
@@ -74,13 +79,44 @@ public class ModularOverrideList extends ItemOverrideList {
         return result;
     }
 
-    protected IBakedModel getOverrideModel(ItemStack itemStack, @Nullable World world, @Nullable LivingEntity entity) {
+    /**
+     * Bakes and caches the models for the given itemstack unless they are already cached, used to bake models in the background
+     * before they are first rendered.
+     * @param originalModel the model the override list belongs to, part of the cache key
+     * @param itemStack an itemstack that will not be modified while baking
+     */
+    public void prebake(IBakedModel originalModel, ItemStack itemStack) {
+        if (itemStack.hasTag() && !itemStack.getTag().isEmpty()) {
+            CacheKey key = getCacheKey(itemStack, null, originalModel);
+            int generation = ModularModelLoader.getCacheGeneration();
+            try {
+                bakedModelCache.get(key, () -> getOverrideModels(itemStack, null, null));
+            } catch (ExecutionException e) {
+                logger.debug("Failed to prebake model for {}: {}", itemStack, e.getMessage());
+            }
+
+            // the cache may have been cleared while baking, in which case the model is based on outdated data and is stored anyway
+            if (generation != ModularModelLoader.getCacheGeneration()) {
+                bakedModelCache.invalidate(key);
+            }
+        }
+    }
+
+    /**
+     * Bakes the models for all stages of the given itemstack in one go, most items only have a single stage.
+     */
+    protected IBakedModel[] getOverrideModels(ItemStack itemStack, @Nullable World world, @Nullable LivingEntity entity) {
         IModularItem item  = (IModularItem) itemStack.getItem();
 
-        List<ModuleModel> models = item.getModels(itemStack, entity);
+        List<ImmutableList<ModuleModel>> stageModels = item.getStageModels(itemStack);
         String transformVariant = item.getTransformVariant(itemStack, entity);
+        IBakedModel[] result = new IBakedModel[stageModels.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = model.realBake(stageModels.get(i), transformVariant, owner, bakery, spriteGetter, modelTransform,
+                    ItemOverrideList.EMPTY, modelLocation);
+        }
 
-        return model.realBake(models, transformVariant, owner, bakery, spriteGetter, modelTransform, ItemOverrideList.EMPTY, modelLocation);
+        return result;
     }
 
     protected CacheKey getCacheKey(ItemStack itemStack, LivingEntity entity, IBakedModel original) {
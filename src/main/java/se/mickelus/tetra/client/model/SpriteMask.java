@@ -0,0 +1,172 @@
+package se.mickelus.tetra.client.model;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.util.Direction;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Alpha masks for a sprite, used to only generate side quads along the edges between opaque and transparent pixels and to cull
+ * geometry of item layers that are covered by layers above them. Pixels are indexed with y counting from the bottom of the sprite
+ * like the model coordinates do. Opaque pixels in any frame of animated sprites count as opaque.
+ */
+public class SpriteMask {
+    // pixels with an alpha at or below this are considered transparent when generating side quads
+    private static final float alphaThreshold = 0.1f;
+
+    // masks for each sprite, sprites are recreated when textures are reloaded so this does not have to be cleared
+    private static final Cache<TextureAtlasSprite, SpriteMask> cache = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    private final int width;
+    private final int height;
+
+    // pixels that are visible
+    private final boolean[] opaque;
+
+    // pixels that are fully opaque in all frames, these hide whatever is behind them
+    private final boolean[] solid;
+
+    private final int[] edges;
+
+    private SpriteMask(TextureAtlasSprite sprite) {
+        width = sprite.getWidth();
+        height = sprite.getHeight();
+
+        opaque = new boolean[width * height];
+        solid = new boolean[width * height];
+        Arrays.fill(solid, true);
+        for (int frame = 0; frame < sprite.getFrameCount(); frame++) {
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    int alpha = sprite.getPixelRGBA(frame, x, height - y - 1) >> 24 & 0xFF;
+                    opaque[x + y * width] |= alpha / 255f > alphaThreshold;
+                    solid[x + y * width] &= alpha == 255;
+                }
+            }
+        }
+
+        edges = findEdges(null);
+    }
+
+    public static SpriteMask get(TextureAtlasSprite sprite) {
+        try {
+            return cache.get(sprite, () -> new SpriteMask(sprite));
+        } catch (ExecutionException e) {
+            return new SpriteMask(sprite);
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Edge runs along rows and columns of opaque pixels, each run is stored as four ints: the index of the side, u and v of where the
+     * side quad starts and the length of the run. The returned array is shared and should not be modified.
+     */
+    public int[] getEdges() {
+        return edges;
+    }
+
+    /**
+     * Edge runs like {@link #getEdges()}, leaving out edges next to pixels that are covered
+     * @param covered covered pixels, same size and indexing as this mask
+     */
+    public int[] getEdges(boolean[] covered) {
+        return findEdges(covered);
+    }
+
+    /**
+     * Checks if all visible pixels of this mask are covered
+     * @param covered covered pixels, same size and indexing as this mask
+     */
+    public boolean isCovered(boolean[] covered) {
+        for (int i = 0; i < opaque.length; i++) {
+            if (opaque[i] && !covered[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Marks the solid pixels of this mask as covered
+     * @param covered covered pixels, same size and indexing as this mask
+     */
+    public void cover(boolean[] covered) {
+        for (int i = 0; i < solid.length; i++) {
+            covered[i] |= solid[i];
+        }
+    }
+
+    private boolean isOpaque(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height && opaque[x + y * width];
+    }
+
+    private boolean isCovered(boolean[] covered, int x, int y) {
+        return covered != null && x >= 0 && x < width && y >= 0 && y < height && covered[x + y * width];
+    }
+
+    private boolean isEdge(boolean[] covered, int x, int y, int neighbourX, int neighbourY) {
+        return isOpaque(x, y) && !isOpaque(neighbourX, neighbourY)
+                && !isCovered(covered, x, y) && !isCovered(covered, neighbourX, neighbourY);
+    }
+
+    private int[] findEdges(boolean[] covered) {
+        IntArrayList result = new IntArrayList();
+
+        for (int y = 0; y < height; y++) {
+            int bottomStart = -1;
+            int topStart = -1;
+            for (int x = 0; x <= width; x++) {
+                bottomStart = addRun(result, isEdge(covered, x, y, x, y - 1), bottomStart, x, Direction.UP, x, y);
+                topStart = addRun(result, isEdge(covered, x, y, x, y + 1), topStart, x, Direction.DOWN, x, y + 1);
+            }
+        }
+
+        for (int x = 0; x < width; x++) {
+            int leftStart = -1;
+            int rightStart = -1;
+            for (int y = 0; y <= height; y++) {
+                leftStart = addRun(result, isEdge(covered, x, y, x - 1, y), leftStart, y, Direction.WEST, x, y);
+                rightStart = addRun(result, isEdge(covered, x, y, x + 1, y), rightStart, y, Direction.EAST, x + 1, y);
+            }
+        }
+
+        return result.toIntArray();
+    }
+
+    /**
+     * Starts, continues or ends a run of edges at the given position, returns the start of the current run or -1 if there is none
+     */
+    private static int addRun(IntArrayList edges, boolean isEdge, int start, int position, Direction side, int u, int v) {
+        if (isEdge) {
+            return start == -1 ? position : start;
+        }
+
+        if (start != -1) {
+            edges.add(side.getIndex());
+            if (side.getAxis() == Direction.Axis.Y) {
+                edges.add(start);
+                edges.add(v);
+            } else {
+                edges.add(u);
+                edges.add(start);
+            }
+            edges.add(position - start);
+        }
+
+        return -1;
+    }
+}
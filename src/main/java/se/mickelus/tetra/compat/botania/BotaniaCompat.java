@@ -6,6 +6,12 @@ public class BotaniaCompat {
     public static final String modId = "botania";
     public static final Boolean isLoaded = ModList.get().isLoaded(modId);
 
+    public static void init() {
+        if (isLoaded) {
+            ManaRepair.init();
+        }
+    }
+
     public static void clientInit() {
         if (isLoaded) {
             ManaRepair.clientInit();
@@ -3,12 +3,11 @@ package se.mickelus.tetra.compat.botania;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.world.World;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import se.mickelus.tetra.blocks.workbench.gui.WorkbenchStatsGui;
-import se.mickelus.tetra.effect.EffectHelper;
 import se.mickelus.tetra.effect.ItemEffect;
+import se.mickelus.tetra.effect.PassiveEffects;
 import se.mickelus.tetra.gui.stats.bar.GuiStatBar;
 import se.mickelus.tetra.gui.stats.StatsHelper;
 import se.mickelus.tetra.gui.stats.getter.IStatGetter;
@@ -32,14 +31,15 @@ public class ManaRepair {
         HoloStatsGui.addBar(statBar);
     }
 
-    public static void itemInventoryTick(ItemStack itemStack, World world, Entity entity) {
-        if (!world.isRemote && world.getGameTime() % 20 == 0 && BotaniaCompat.isLoaded) {
-            int manaRepairLevel = EffectHelper.getEffectLevel(itemStack, effect);
-            if (manaRepairLevel > 0 && itemStack.getDamage() > 0) {
-                CastOptional.cast(entity, PlayerEntity.class)
-                        .filter(player -> ManaItemHandler.instance().requestManaExactForTool(itemStack, player, manaRepairLevel * 2, true))
-                        .ifPresent(player -> itemStack.setDamage(itemStack.getDamage() - 1));
-            }
+    public static void init() {
+        PassiveEffects.register(effect, 20, ManaRepair::itemInventoryTick);
+    }
+
+    private static void itemInventoryTick(Entity entity, ItemStack itemStack, int manaRepairLevel) {
+        if (itemStack.getDamage() > 0) {
+            CastOptional.cast(entity, PlayerEntity.class)
+                    .filter(player -> ManaItemHandler.instance().requestManaExactForTool(itemStack, player, manaRepairLevel * 2, true))
+                    .ifPresent(player -> itemStack.setDamage(itemStack.getDamage() - 1));
         }
     }
 }
@@ -15,18 +15,30 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import se.mickelus.tetra.LooseItemPredicate;
 import se.mickelus.tetra.TetraMod;
 import se.mickelus.tetra.blocks.PropertyMatcher;
 import se.mickelus.tetra.blocks.workbench.action.ConfigActionImpl;
 import se.mickelus.tetra.craftingeffect.CraftingEffect;
+import se.mickelus.tetra.craftingeffect.CraftingEffectRegistry;
+import se.mickelus.tetra.craftingeffect.condition.CraftTypeCondition;
 import se.mickelus.tetra.craftingeffect.condition.CraftingEffectCondition;
+import se.mickelus.tetra.craftingeffect.condition.LockedCondition;
+import se.mickelus.tetra.craftingeffect.condition.MaterialCondition;
+import se.mickelus.tetra.craftingeffect.condition.ToolCondition;
+import se.mickelus.tetra.craftingeffect.outcome.ApplyImprovementOutcome;
 import se.mickelus.tetra.craftingeffect.outcome.CraftingEffectOutcome;
+import se.mickelus.tetra.craftingeffect.outcome.MaterialReductionOutcome;
+import se.mickelus.tetra.craftingeffect.outcome.RemoveImprovementOutcome;
 import se.mickelus.tetra.data.deserializer.*;
 import se.mickelus.tetra.generation.FeatureParameters;
-import se.mickelus.tetra.module.Priority;
-import se.mickelus.tetra.module.ReplacementDefinition;
+import se.mickelus.tetra.items.modular.ItemPredicateModular;
+import se.mickelus.tetra.items.modular.MaterialItemPredicate;
+import se.mickelus.tetra.items.modular.impl.toolbelt.ToolbeltModule;
+import se.mickelus.tetra.module.*;
 import se.mickelus.tetra.module.data.*;
 import se.mickelus.tetra.module.improvement.DestabilizationEffect;
+import se.mickelus.tetra.module.schematic.BookEnchantSchematic;
 import se.mickelus.tetra.module.schematic.OutcomeDefinition;
 import se.mickelus.tetra.module.schematic.OutcomeMaterial;
 import se.mickelus.tetra.module.schematic.RepairDefinition;
@@ -79,7 +91,7 @@ public class DataManager {
     public static DataStore<ConfigActionImpl[]> actionData = new DataStore<>(gson, "actions", ConfigActionImpl[].class);
     public static DataStore<DestabilizationEffect[]> destabilizationData = new DataStore<>(gson, "destabilization",
             DestabilizationEffect[].class);
-    public static DataStore<FeatureParameters> featureData = new FeatureStore(gson, "structures");
+    public static FeatureStore featureData = new FeatureStore(gson, "structures");
 
     private final DataStore[] dataStores = new DataStore[] { tweakData, materialData, improvementData, moduleData, enchantmentData, synergyData,
             replacementData, schematicData, craftingEffectData, repairData, predicateData, actionData, destabilizationData, featureData };
@@ -90,6 +102,40 @@ public class DataManager {
         instance = this;
     }
 
+    /**
+     * Sets up the registries that are populated from data, they hook into the reload of the datastores and have to be set up
+     * before any data is loaded. Kept separate from mod setup so that data can also be loaded without starting the game.
+     */
+    public static void setupDataRegistries() {
+        ItemPredicate.register(new ResourceLocation("tetra:modular_item"), ItemPredicateModular::new);
+        ItemPredicate.register(new ResourceLocation("tetra:material"), MaterialItemPredicate::new);
+        ItemPredicate.register(new ResourceLocation("tetra:loose"), LooseItemPredicate::new);
+
+        new CraftingEffectRegistry();
+        CraftingEffectRegistry.registerConditionType("tetra:craft_type", CraftTypeCondition.class);
+        CraftingEffectRegistry.registerConditionType("tetra:locked", LockedCondition.class);
+        CraftingEffectRegistry.registerConditionType("tetra:material", MaterialCondition.class);
+        CraftingEffectRegistry.registerConditionType("tetra:tool", ToolCondition.class);
+
+        CraftingEffectRegistry.registerEffectType("tetra:apply_improvements", ApplyImprovementOutcome.class);
+        CraftingEffectRegistry.registerEffectType("tetra:remove_improvements", RemoveImprovementOutcome.class);
+        CraftingEffectRegistry.registerEffectType("tetra:material_reduction", MaterialReductionOutcome.class);
+
+        new RepairRegistry();
+
+        SchematicRegistry schematicRegistry = new SchematicRegistry();
+        schematicRegistry.registerSchematic(new BookEnchantSchematic());
+
+        new ItemUpgradeRegistry();
+
+        ModuleRegistry moduleRegistry = new ModuleRegistry();
+        moduleRegistry.registerModuleType(new ResourceLocation(TetraMod.MOD_ID, "basic_module"), BasicModule::new);
+        moduleRegistry.registerModuleType(new ResourceLocation(TetraMod.MOD_ID, "multi_module"), MultiSlotModule::new);
+        moduleRegistry.registerModuleType(new ResourceLocation(TetraMod.MOD_ID, "basic_major_module"), BasicMajorModule::new);
+        moduleRegistry.registerModuleType(new ResourceLocation(TetraMod.MOD_ID, "multi_major_module"), MultiSlotMajorModule::new);
+        moduleRegistry.registerModuleType(new ResourceLocation(TetraMod.MOD_ID, "toolbelt_module"), ToolbeltModule::new);
+    }
+
     @SubscribeEvent
     public void addReloadListener(AddReloadListenerEvent event) {
         logger.debug("Setting up datastore reload listeners");
@@ -19,6 +19,7 @@ import se.mickelus.tetra.TetraMod;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class DataStore<V> extends ReloadListener<Map<ResourceLocation, JsonElement>> {
@@ -33,6 +34,9 @@ public class DataStore<V> extends ReloadListener<Map<ResourceLocation, JsonEleme
     protected Map<ResourceLocation, V> dataMap;
     protected List<Runnable> listeners;
 
+    // resources that were skipped as they could not be read or parsed during the last prepare
+    protected final AtomicInteger failedCount = new AtomicInteger();
+
     public DataStore(Gson gson, String directory, Class<V> dataClass) {
         this.gson = gson;
         this.directory = directory;
@@ -48,6 +52,7 @@ public class DataStore<V> extends ReloadListener<Map<ResourceLocation, JsonEleme
     protected Map<ResourceLocation, JsonElement> prepare(IResourceManager resourceManager, IProfiler profiler) {
         logger.debug("Reading data for {} data store...", directory);
         Map<ResourceLocation, JsonElement> map = Maps.newHashMap();
+        failedCount.set(0);
         int i = this.directory.length() + 1;
 
         for(ResourceLocation fullLocation : resourceManager.getAllResourceLocations(directory, rl -> rl.endsWith(".json"))) {
@@ -82,9 +87,11 @@ public class DataStore<V> extends ReloadListener<Map<ResourceLocation, JsonEleme
                     }
                 } else {
                     logger.error("Couldn't load data from '{}' as it's null or empty", fullLocation);
+                    failedCount.incrementAndGet();
                 }
             } catch (IllegalArgumentException | IOException | JsonParseException jsonparseexception) {
                 logger.error("Couldn't parse data '{}' from '{}'", location, fullLocation, jsonparseexception);
+                failedCount.incrementAndGet();
             }
         }
 
@@ -159,6 +166,13 @@ public class DataStore<V> extends ReloadListener<Map<ResourceLocation, JsonEleme
         return rawData;
     }
 
+    /**
+     * @return the number of resources that were skipped during the last prepare as they could not be read or parsed
+     */
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+
     public String getDirectory() {
         return directory;
     }
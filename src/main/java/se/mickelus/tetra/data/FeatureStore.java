@@ -1,13 +1,98 @@
 package se.mickelus.tetra.data;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTUtil;
+import net.minecraft.profiler.IProfiler;
+import net.minecraft.resources.IResource;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.DataFixesManager;
+import net.minecraft.util.datafix.DefaultTypeReferences;
+import net.minecraft.world.gen.feature.template.Template;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import se.mickelus.tetra.generation.FeatureParameters;
 
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
 public class FeatureStore extends DataStore<FeatureParameters> {
+    private static final Logger logger = LogManager.getLogger();
+
+    // templates are read in parallel while preparing, and swapped in together with the feature data when applied
+    private volatile ImmutableMap<ResourceLocation, Template> preparedTemplates = ImmutableMap.of();
+    private volatile ImmutableMap<ResourceLocation, Template> templates = ImmutableMap.of();
+
     public FeatureStore(Gson gson, String directory) {
         super(gson, directory, FeatureParameters.class);
     }
 
+    @Override
+    protected Map<ResourceLocation, JsonElement> prepare(IResourceManager resourceManager, IProfiler profiler) {
+        Map<ResourceLocation, JsonElement> result = super.prepare(resourceManager, profiler);
+
+        preparedTemplates = result.keySet().parallelStream()
+                .map(location -> Optional.ofNullable(readTemplate(resourceManager, location))
+                        .map(template -> Maps.immutableEntry(location, template))
+                        .orElse(null))
+                .filter(Objects::nonNull)
+                .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        logger.debug("Read {} feature templates", preparedTemplates.size());
+
+        return result;
+    }
+
+    @Override
+    protected void apply(Map<ResourceLocation, JsonElement> splashList, IResourceManager resourceManager, IProfiler profiler) {
+        templates = preparedTemplates;
+        preparedTemplates = ImmutableMap.of();
+
+        super.apply(splashList, resourceManager, profiler);
+    }
+
+    @Nullable
+    private Template readTemplate(IResourceManager resourceManager, ResourceLocation location) {
+        ResourceLocation fullLocation = new ResourceLocation(location.getNamespace(), directory + "/" + location.getPath() + ".nbt");
+        try (
+                IResource resource = resourceManager.getResource(fullLocation);
+                InputStream inputStream = resource.getInputStream();
+        ) {
+            CompoundNBT nbt = CompressedStreamTools.readCompressed(inputStream);
+            if (!nbt.contains("DataVersion", 99)) {
+                nbt.putInt("DataVersion", 500);
+            }
+
+            Template template = new Template();
+            template.read(NBTUtil.update(DataFixesManager.getDataFixer(), DefaultTypeReferences.STRUCTURE, nbt, nbt.getInt("DataVersion")));
+            return template;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Couldn't read template for feature '{}' from '{}'", location, fullLocation, e);
+            failedCount.incrementAndGet();
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the preloaded template for the feature at the given location
+     * @param location The location of a feature
+     * @return the template for the feature, or null if no template was found for the feature when data was loaded
+     */
+    @Nullable
+    public Template getTemplate(ResourceLocation location) {
+        return templates.get(location);
+    }
+
     @Override
     protected void processData() {
         getData().forEach((rl, params) -> params.location = rl);
@@ -29,7 +29,9 @@ public class ReplacementDeserializer implements JsonDeserializer<ReplacementDefi
         JsonObject jsonObject = element.getAsJsonObject();
 
         try {
-            replacement.predicate = ItemPredicate.deserialize(JSONUtils.getJsonObject(jsonObject, "predicate"));
+            JsonObject predicateJson = JSONUtils.getJsonObject(jsonObject, "predicate");
+            replacement.predicate = ItemPredicate.deserialize(predicateJson);
+            replacement.predicateItem = getPredicateItem(predicateJson);
         } catch (JsonSyntaxException e) {
             // todo: debug log here
 //                System.out.println(String.format("Skipping modular replacement definition due to faulty predicate: %s", JSONUtils.getJsonObject(jsonObject, "predicate").toString()));
@@ -64,4 +66,12 @@ public class ReplacementDeserializer implements JsonDeserializer<ReplacementDefi
 
         return replacement;
     }
+
+    private static Item getPredicateItem(JsonObject predicateJson) {
+        if (predicateJson.has("type") || predicateJson.has("tag") || !predicateJson.has("item")) {
+            return null;
+        }
+
+        return ForgeRegistries.ITEMS.getValue(new ResourceLocation(JSONUtils.getString(predicateJson, "item")));
+    }
 }
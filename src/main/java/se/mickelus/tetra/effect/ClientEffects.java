@@ -0,0 +1,97 @@
+package se.mickelus.tetra.effect;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.entity.player.ClientPlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import se.mickelus.tetra.items.modular.IModularItem;
+import se.mickelus.tetra.items.modular.impl.toolbelt.ToolbeltHelper;
+import se.mickelus.tetra.module.data.EffectData;
+
+/**
+ * Snapshot of the effects of the items held by the local player and of the players toolbelt, resolved once at the start of each
+ * client tick so that overlays and input handlers don't have to look up the same item data every frame. Lookups for itemstacks
+ * that are not part of the snapshot, e.g. if the player has changed the held item since the start of the tick, fall back to
+ * regular lookups.
+ */
+@OnlyIn(Dist.CLIENT)
+public class ClientEffects {
+    private static final EffectData emptyData = new EffectData();
+
+    private static ItemStack mainHandStack = ItemStack.EMPTY;
+    private static EffectData mainHandData = emptyData;
+
+    private static ItemStack offHandStack = ItemStack.EMPTY;
+    private static EffectData offHandData = emptyData;
+
+    private static ItemStack toolbeltStack = ItemStack.EMPTY;
+    private static EffectData toolbeltData = emptyData;
+
+    @SubscribeEvent(priority = EventPriority.HIGH)
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.START) {
+            return;
+        }
+
+        ClientPlayerEntity player = Minecraft.getInstance().player;
+        if (player == null) {
+            mainHandStack = offHandStack = toolbeltStack = ItemStack.EMPTY;
+            mainHandData = offHandData = toolbeltData = emptyData;
+            return;
+        }
+
+        mainHandStack = player.getHeldItemMainhand();
+        mainHandData = resolve(mainHandStack);
+
+        offHandStack = player.getHeldItemOffhand();
+        offHandData = resolve(offHandStack);
+
+        toolbeltStack = ToolbeltHelper.findToolbelt(player);
+        toolbeltData = resolve(toolbeltStack);
+    }
+
+    private static EffectData resolve(ItemStack itemStack) {
+        if (itemStack.getItem() instanceof IModularItem) {
+            IModularItem item = (IModularItem) itemStack.getItem();
+            if (!item.isBroken(itemStack)) {
+                return item.getEffectDataCached(itemStack);
+            }
+        }
+
+        return emptyData;
+    }
+
+    public static ItemStack getToolbelt() {
+        return toolbeltStack;
+    }
+
+    /**
+     * Get the level of an effect for the given itemstack, the snapshot is used if the itemstack is the held or toolbelt itemstack
+     */
+    public static int getLevel(ItemStack itemStack, ItemEffect effect) {
+        if (itemStack.isEmpty()) {
+            return 0;
+        }
+
+        if (itemStack == mainHandStack) {
+            return mainHandData.getLevel(effect);
+        } else if (itemStack == offHandStack) {
+            return offHandData.getLevel(effect);
+        } else if (itemStack == toolbeltStack) {
+            return toolbeltData.getLevel(effect);
+        }
+
+        return itemStack.getItem() instanceof IModularItem ? EffectHelper.getEffectLevel(itemStack, effect) : 0;
+    }
+
+    /**
+     * Checks if either of the items held by the local player at the start of the tick has the given effect
+     */
+    public static boolean hasHeldEffect(ItemEffect effect) {
+        return mainHandData.getLevel(effect) > 0 || offHandData.getLevel(effect) > 0;
+    }
+}
@@ -0,0 +1,51 @@
+package se.mickelus.tetra.effect;
+
+import net.minecraft.item.ItemStack;
+import se.mickelus.tetra.items.modular.IModularItem;
+import se.mickelus.tetra.module.data.EffectData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dispatch table for item effects that hook into an event. Effects register a hook for each event they care about, and the hooks
+ * are then only called for items that have the effect. The effect data of the item is resolved once per dispatch, hooks are called
+ * in the order they were registered.
+ * @param <E> the type of event passed to the hooks
+ */
+public class EffectHooks<E> {
+    private final List<ItemEffect> effects = new ArrayList<>();
+    private final List<Hook<E>> hooks = new ArrayList<>();
+
+    public void register(ItemEffect effect, Hook<E> hook) {
+        effects.add(effect);
+        hooks.add(hook);
+    }
+
+    /**
+     * Calls the hooks for all registered effects that the given itemstack has, the itemstack is expected to hold a modular item.
+     */
+    public void dispatch(E event, ItemStack itemStack) {
+        IModularItem item = (IModularItem) itemStack.getItem();
+        if (item.isBroken(itemStack)) {
+            return;
+        }
+
+        EffectData data = item.getEffectDataCached(itemStack);
+        if (data.levelMap.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < effects.size(); i++) {
+            int level = data.getLevel(effects.get(i));
+            if (level > 0) {
+                hooks.get(i).accept(event, itemStack, level);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Hook<E> {
+        void accept(E event, ItemStack itemStack, int level);
+    }
+}
@@ -45,12 +45,37 @@ import se.mickelus.tetra.util.CastOptional;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 public class ItemEffectHandler {
 
     public static ItemEffectHandler instance;
 
+    public static final EffectHooks<LivingExperienceDropEvent> experienceDropHooks = new EffectHooks<>();
+    public static final EffectHooks<LivingAttackEvent> blockingHooks = new EffectHooks<>();
+    public static final EffectHooks<LivingHurtEvent> hurtHooks = new EffectHooks<>();
+    public static final EffectHooks<LivingDamageEvent> damageHooks = new EffectHooks<>();
+    public static final EffectHooks<CriticalHitEvent> criticalHitHooks = new EffectHooks<>();
+    public static final EffectHooks<PlayerInteractEvent.LeftClickBlock> leftClickBlockHooks = new EffectHooks<>();
+
+    static {
+        experienceDropHooks.register(ItemEffect.intuit, ItemEffectHandler::onIntuit);
+
+        blockingHooks.register(ItemEffect.blockingReflect, ItemEffectHandler::onBlockingReflect);
+
+        hurtHooks.register(ItemEffect.quickStrike, ItemEffectHandler::onQuickStrike);
+        hurtHooks.register(ItemEffect.armorPenetration, (event, itemStack, level) -> ArmorPenetrationEffect.onLivingHurt(event, level));
+
+        damageHooks.register(ItemEffect.crushing, (event, itemStack, level) -> CrushingEffect.onLivingDamage(event, level));
+        damageHooks.register(ItemEffect.skewering, (event, itemStack, level) -> SkeweringEffect.onLivingDamage(event, level, itemStack));
+
+        criticalHitHooks.register(ItemEffect.backstab, ItemEffectHandler::onBackstab);
+        criticalHitHooks.register(ItemEffect.criticalStrike, CritEffect::critEntity);
+
+        leftClickBlockHooks.register(ItemEffect.criticalStrike, ItemEffectHandler::onCritBlock);
+        leftClickBlockHooks.register(ItemEffect.truesweep, ItemEffectHandler::onTruesweep);
+        leftClickBlockHooks.register(ItemEffect.howling, ItemEffectHandler::onHowling);
+    }
+
     public ItemEffectHandler() {
         instance = this;
     }
@@ -98,17 +123,17 @@ public class ItemEffectHandler {
 
     @SubscribeEvent(priority=EventPriority.LOW)
     public void onExperienceDrop(LivingExperienceDropEvent event) {
-        Optional.ofNullable(event.getAttackingPlayer())
-                .map(LivingEntity::getHeldItemMainhand)
-                .filter(itemStack -> !itemStack.isEmpty())
-                .filter(itemStack -> itemStack.getItem() instanceof IModularItem)
-                .ifPresent(itemStack -> {
-                    int intuitLevel = getEffectLevel(itemStack, ItemEffect.intuit);
-                    int xp = event.getDroppedExperience();
-                    if (intuitLevel > 0 && xp > 0) {
-                        ((IModularItem) itemStack.getItem()).tickHoningProgression(event.getAttackingPlayer(), itemStack, intuitLevel * xp);
-                    }
-                });
+        PlayerEntity player = event.getAttackingPlayer();
+        if (player != null && event.getDroppedExperience() > 0) {
+            ItemStack itemStack = player.getHeldItemMainhand();
+            if (itemStack.getItem() instanceof IModularItem) {
+                experienceDropHooks.dispatch(event, itemStack);
+            }
+        }
+    }
+
+    private static void onIntuit(LivingExperienceDropEvent event, ItemStack itemStack, int level) {
+        ((IModularItem) itemStack.getItem()).tickHoningProgression(event.getAttackingPlayer(), itemStack, level * event.getDroppedExperience());
     }
 
     @SubscribeEvent(priority = EventPriority.LOWEST)
@@ -121,49 +146,51 @@ public class ItemEffectHandler {
     @SubscribeEvent
     public void onLivingAttack(LivingAttackEvent event) {
         if (!event.getSource().isUnblockable() && event.getEntityLiving().isActiveItemStackBlocking()) {
-            Optional.ofNullable(event.getEntityLiving())
-                    .map(LivingEntity::getActiveItemStack)
-                    .filter(itemStack -> itemStack.getItem() instanceof ItemModularHandheld)
-                    .ifPresent(itemStack -> {
-                        ItemModularHandheld item = (ItemModularHandheld) itemStack.getItem();
-                        LivingEntity blocker = event.getEntityLiving();
-                        if (UseAction.BLOCK.equals(itemStack.getUseAction())) {
-                            item.applyUsageEffects(blocker, itemStack, MathHelper.ceil(event.getAmount() / 2f));
-                        }
-
-                        if (event.getSource().getImmediateSource() instanceof LivingEntity) {
-                            LivingEntity attacker = (LivingEntity) event.getSource().getImmediateSource();
-
-                            if (item.getEffectLevel(itemStack, ItemEffect.blockingReflect) > attacker.getRNG().nextFloat() * 100) {
-                                attacker.attackEntityFrom(new EntityDamageSource("thorns", blocker).setIsThornsDamage(),
-                                        (float) (item.getAbilityBaseDamage(itemStack) * item.getEffectEfficiency(itemStack, ItemEffect.blockingReflect)));
-                                applyHitEffects(itemStack, attacker, blocker);
-                                EffectHelper.applyEnchantmentHitEffects(itemStack, attacker, blocker);
+            ItemStack itemStack = event.getEntityLiving().getActiveItemStack();
+            if (itemStack.getItem() instanceof ItemModularHandheld) {
+                ItemModularHandheld item = (ItemModularHandheld) itemStack.getItem();
+                if (UseAction.BLOCK.equals(itemStack.getUseAction())) {
+                    item.applyUsageEffects(event.getEntityLiving(), itemStack, MathHelper.ceil(event.getAmount() / 2f));
+                }
 
-                                float knockbackFactor = 0.5f + EnchantmentHelper.getEnchantmentLevel(Enchantments.KNOCKBACK, itemStack);
-                                attacker.applyKnockback(knockbackFactor * 0.5f,
-                                        blocker.getPosX() - attacker.getPosX(), blocker.getPosZ() - attacker.getPosZ());
-                            }
-                        }
-                    });
+                if (event.getSource().getImmediateSource() instanceof LivingEntity) {
+                    blockingHooks.dispatch(event, itemStack);
+                }
+            }
         }
 
-        if ("arrow".equals(event.getSource().damageType)) {
-            CastOptional.cast(event.getSource().getTrueSource(), LivingEntity.class)
-                    .map(shooter -> Stream.of(shooter.getHeldItemMainhand(), shooter.getHeldItemOffhand()))
-                    .orElseGet(Stream::empty)
-                    .filter(itemStack -> itemStack.getItem() instanceof ModularBowItem)
-                    .findFirst()
-                    .ifPresent(itemStack -> {
-                        ModularBowItem item = (ModularBowItem) itemStack.getItem();
-                        item.tickHoningProgression((LivingEntity) event.getSource().getTrueSource(), itemStack, 2);
-                    });
+        if ("arrow".equals(event.getSource().damageType) && event.getSource().getTrueSource() instanceof LivingEntity) {
+            LivingEntity shooter = (LivingEntity) event.getSource().getTrueSource();
+            ItemStack itemStack = shooter.getHeldItemMainhand();
+            if (!(itemStack.getItem() instanceof ModularBowItem)) {
+                itemStack = shooter.getHeldItemOffhand();
+            }
 
+            if (itemStack.getItem() instanceof ModularBowItem) {
+                ((ModularBowItem) itemStack.getItem()).tickHoningProgression(shooter, itemStack, 2);
+            }
         }
 
         RevengeTracker.onAttackEntity(event);
     }
 
+    private static void onBlockingReflect(LivingAttackEvent event, ItemStack itemStack, int level) {
+        ItemModularHandheld item = (ItemModularHandheld) itemStack.getItem();
+        LivingEntity blocker = event.getEntityLiving();
+        LivingEntity attacker = (LivingEntity) event.getSource().getImmediateSource();
+
+        if (level > attacker.getRNG().nextFloat() * 100) {
+            attacker.attackEntityFrom(new EntityDamageSource("thorns", blocker).setIsThornsDamage(),
+                    (float) (item.getAbilityBaseDamage(itemStack) * item.getEffectEfficiency(itemStack, ItemEffect.blockingReflect)));
+            applyHitEffects(itemStack, attacker, blocker);
+            EffectHelper.applyEnchantmentHitEffects(itemStack, attacker, blocker);
+
+            float knockbackFactor = 0.5f + EnchantmentHelper.getEnchantmentLevel(Enchantments.KNOCKBACK, itemStack);
+            attacker.applyKnockback(knockbackFactor * 0.5f,
+                    blocker.getPosX() - attacker.getPosX(), blocker.getPosZ() - attacker.getPosZ());
+        }
+    }
+
     @SubscribeEvent
     public void onPlayerTick(TickEvent.PlayerTickEvent event) {
         if (TickEvent.Phase.START == event.phase) {
@@ -178,66 +205,50 @@ public class ItemEffectHandler {
 
     @SubscribeEvent
     public void onLivingHurt(LivingHurtEvent event) {
-        Optional.ofNullable(event.getSource().getTrueSource())
-                .filter(entity -> entity instanceof LivingEntity)
-                .map(entity -> (LivingEntity) entity)
-                .map(LivingEntity::getHeldItemMainhand)
-                .filter(itemStack -> itemStack.getItem() instanceof IModularItem)
-                .ifPresent(itemStack -> {
-                    int quickStrikeLevel = getEffectLevel(itemStack, ItemEffect.quickStrike);
-                    if (quickStrikeLevel > 0) {
-                        float maxDamage = (float) ((LivingEntity) event.getSource().getTrueSource())
-                                .getAttribute(Attributes.ATTACK_DAMAGE).getValue();
-                        float multiplier = quickStrikeLevel * 0.05f + 0.2f;
-
-                        if (event.getAmount() <  multiplier * maxDamage) {
-                            event.setAmount(multiplier * maxDamage);
-                        }
-                    }
+        if (event.getSource().getTrueSource() instanceof LivingEntity) {
+            ItemStack itemStack = ((LivingEntity) event.getSource().getTrueSource()).getHeldItemMainhand();
+            if (itemStack.getItem() instanceof IModularItem) {
+                hurtHooks.dispatch(event, itemStack);
+            }
+        }
 
-                    int armorPenetrationLevel = getEffectLevel(itemStack, ItemEffect.armorPenetration);
-                    if (armorPenetrationLevel > 0) {
-                        ArmorPenetrationEffect.onLivingHurt(event, armorPenetrationLevel);
-                    }
-                });
-
-        if (!event.getSource().isUnblockable()) {
-            Optional.ofNullable(event.getEntityLiving())
-                    .map(entity -> Stream.of(entity.getHeldItemMainhand(), entity.getHeldItemOffhand()))
-                    .orElseGet(Stream::empty)
-                    .filter(itemStack -> !itemStack.isEmpty())
-                    .filter(itemStack -> itemStack.getItem() instanceof ItemModularHandheld)
-                    .forEach(itemStack -> {
-                        ItemModularHandheld item = (ItemModularHandheld) itemStack.getItem();
-                        if (item.getAttributeValue(itemStack, Attributes.ARMOR) > 0 || item.getAttributeValue(itemStack, Attributes.ARMOR_TOUGHNESS) > 0) {
-                            int reducedAmount = (int) Math.ceil(event.getAmount() - CombatRules.getDamageAfterAbsorb(event.getAmount(),
-                                    (float) event.getEntityLiving().getTotalArmorValue(),
-                                    (float) event.getEntityLiving().getAttribute(Attributes.ARMOR_TOUGHNESS).getValue()));
-                            item.applyUsageEffects(event.getEntityLiving(), itemStack, reducedAmount);
-                            item.applyDamage(reducedAmount, itemStack, event.getEntityLiving());
-                        }
-                    });
+        if (!event.getSource().isUnblockable() && event.getEntityLiving() != null) {
+            applyArmorUsage(event, event.getEntityLiving().getHeldItemMainhand());
+            applyArmorUsage(event, event.getEntityLiving().getHeldItemOffhand());
+        }
+    }
+
+    private static void onQuickStrike(LivingHurtEvent event, ItemStack itemStack, int level) {
+        float maxDamage = (float) ((LivingEntity) event.getSource().getTrueSource())
+                .getAttribute(Attributes.ATTACK_DAMAGE).getValue();
+        float multiplier = level * 0.05f + 0.2f;
+
+        if (event.getAmount() <  multiplier * maxDamage) {
+            event.setAmount(multiplier * maxDamage);
+        }
+    }
+
+    private static void applyArmorUsage(LivingHurtEvent event, ItemStack itemStack) {
+        if (!itemStack.isEmpty() && itemStack.getItem() instanceof ItemModularHandheld) {
+            ItemModularHandheld item = (ItemModularHandheld) itemStack.getItem();
+            if (item.getAttributeValue(itemStack, Attributes.ARMOR) > 0 || item.getAttributeValue(itemStack, Attributes.ARMOR_TOUGHNESS) > 0) {
+                int reducedAmount = (int) Math.ceil(event.getAmount() - CombatRules.getDamageAfterAbsorb(event.getAmount(),
+                        (float) event.getEntityLiving().getTotalArmorValue(),
+                        (float) event.getEntityLiving().getAttribute(Attributes.ARMOR_TOUGHNESS).getValue()));
+                item.applyUsageEffects(event.getEntityLiving(), itemStack, reducedAmount);
+                item.applyDamage(reducedAmount, itemStack, event.getEntityLiving());
+            }
         }
     }
 
     @SubscribeEvent
     public void onLivingDamage(LivingDamageEvent event) {
-        Optional.ofNullable(event.getSource().getTrueSource())
-                .filter(entity -> entity instanceof PlayerEntity)
-                .map(entity -> (LivingEntity) entity)
-                .map(LivingEntity::getHeldItemMainhand)
-                .filter(itemStack -> itemStack.getItem() instanceof IModularItem)
-                .ifPresent(itemStack -> {
-                    int crushingLevel = getEffectLevel(itemStack, ItemEffect.crushing);
-                    if (crushingLevel > 0) {
-                        CrushingEffect.onLivingDamage(event, crushingLevel);
-                    }
-
-                    int skeweringLevel = getEffectLevel(itemStack, ItemEffect.skewering);
-                    if (skeweringLevel > 0) {
-                        SkeweringEffect.onLivingDamage(event, skeweringLevel, itemStack);
-                    }
-                });
+        if (event.getSource().getTrueSource() instanceof PlayerEntity) {
+            ItemStack itemStack = ((PlayerEntity) event.getSource().getTrueSource()).getHeldItemMainhand();
+            if (itemStack.getItem() instanceof IModularItem) {
+                damageHooks.dispatch(event, itemStack);
+            }
+        }
 
         ArmorPenetrationEffect.onLivingDamage(event);
     }
@@ -251,26 +262,23 @@ public class ItemEffectHandler {
 
     @SubscribeEvent
     public void onCriticalHit(CriticalHitEvent event) {
-        Optional.ofNullable(event.getEntityLiving())
-                .map(LivingEntity::getHeldItemMainhand)
-                .filter(itemStack -> !itemStack.isEmpty())
-                .filter(itemStack -> itemStack.getItem() instanceof IModularItem)
-                .ifPresent(itemStack -> {
-                    int backstabLevel = getEffectLevel(itemStack, ItemEffect.backstab);
-                    if (backstabLevel > 0 && event.getTarget() instanceof LivingEntity) {
-                        LivingEntity attacker = event.getEntityLiving();
-                        LivingEntity target = (LivingEntity) event.getTarget();
-                        if (180 - Math.abs(Math.abs(attacker.rotationYawHead - target.rotationYawHead) % 360 - 180) < 60) {
-                            event.setDamageModifier(Math.max(1.25f + 0.25f * backstabLevel, event.getDamageModifier()));
-                            event.setResult(Event.Result.ALLOW);
-                        }
-                    }
+        if (event.getEntityLiving() != null) {
+            ItemStack itemStack = event.getEntityLiving().getHeldItemMainhand();
+            if (itemStack.getItem() instanceof IModularItem) {
+                criticalHitHooks.dispatch(event, itemStack);
+            }
+        }
+    }
 
-                    int critLevel = getEffectLevel(itemStack, ItemEffect.criticalStrike);
-                    if (critLevel > 0) {
-                        CritEffect.critEntity(event, itemStack, critLevel);
-                    }
-                });
+    private static void onBackstab(CriticalHitEvent event, ItemStack itemStack, int level) {
+        if (event.getTarget() instanceof LivingEntity) {
+            LivingEntity attacker = event.getEntityLiving();
+            LivingEntity target = (LivingEntity) event.getTarget();
+            if (180 - Math.abs(Math.abs(attacker.rotationYawHead - target.rotationYawHead) % 360 - 180) < 60) {
+                event.setDamageModifier(Math.max(1.25f + 0.25f * level, event.getDamageModifier()));
+                event.setResult(Event.Result.ALLOW);
+            }
+        }
     }
 
     @OnlyIn(Dist.CLIENT)
@@ -283,10 +291,10 @@ public class ItemEffectHandler {
                 && itemStack.getItem() instanceof ItemModularHandheld
                 && mc.objectMouseOver != null
                 && RayTraceResult.Type.MISS.equals(mc.objectMouseOver.getType())) {
-            if (getEffectLevel(itemStack, ItemEffect.truesweep) > 0) {
+            if (ClientEffects.getLevel(itemStack, ItemEffect.truesweep) > 0) {
                 SweepingEffect.triggerTruesweep();
             }
-            if (getEffectLevel(itemStack, ItemEffect.howling) > 0) {
+            if (ClientEffects.getLevel(itemStack, ItemEffect.howling) > 0) {
                 HowlingEffect.sendPacket();
             }
         }
@@ -307,43 +315,44 @@ public class ItemEffectHandler {
 
     @SubscribeEvent
     public void onLeftClickBlock(PlayerInteractEvent.LeftClickBlock event) {
-        Optional.of(event.getItemStack())
-                .filter(itemStack -> !itemStack.isEmpty())
-                .filter(itemStack -> itemStack.getItem() instanceof ItemModularHandheld)
-                .ifPresent(itemStack -> {
-                    ItemModularHandheld item = (ItemModularHandheld) itemStack.getItem();
-                    BlockPos pos = event.getPos();
-                    World world = event.getWorld();
-                    BlockState blockState = world.getBlockState(pos);
-                    PlayerEntity breakingPlayer = event.getPlayer();
-
-                    boolean didStrike = StrikingEffect.causeEffect(breakingPlayer, itemStack, item, world, pos, blockState);
-                    if (didStrike) {
-                        event.setCanceled(true);
-                        return;
-                    }
+        ItemStack itemStack = event.getItemStack();
+        if (!itemStack.isEmpty() && itemStack.getItem() instanceof ItemModularHandheld) {
+            ItemModularHandheld item = (ItemModularHandheld) itemStack.getItem();
+            BlockPos pos = event.getPos();
+            World world = event.getWorld();
+            BlockState blockState = world.getBlockState(pos);
+
+            boolean didStrike = StrikingEffect.causeEffect(event.getPlayer(), itemStack, item, world, pos, blockState);
+            if (didStrike) {
+                event.setCanceled(true);
+                return;
+            }
 
-                    if (!event.getWorld().isRemote) {
-                        int critLevel = getEffectLevel(itemStack, ItemEffect.criticalStrike);
-                        if (critLevel > 0) {
-                            if (CritEffect.critBlock(world, breakingPlayer, pos, blockState, itemStack, critLevel)) {
-                                event.setCanceled(true);
-                            }
-                        }
+            if (!world.isRemote) {
+                leftClickBlockHooks.dispatch(event, itemStack);
+            }
+        }
+    }
 
+    private static void onCritBlock(PlayerInteractEvent.LeftClickBlock event, ItemStack itemStack, int level) {
+        World world = event.getWorld();
+        BlockPos pos = event.getPos();
+        if (CritEffect.critBlock(world, event.getPlayer(), pos, world.getBlockState(pos), itemStack, level)) {
+            event.setCanceled(true);
+        }
+    }
 
-                        if (breakingPlayer.getCooledAttackStrength(0.5f) > 0.9f) {
-                            if (getEffectLevel(itemStack, ItemEffect.truesweep) > 0 && breakingPlayer.isOnGround() && !breakingPlayer.isSprinting()) {
-                                SweepingEffect.truesweep(itemStack, breakingPlayer);
-                            }
+    private static void onTruesweep(PlayerInteractEvent.LeftClickBlock event, ItemStack itemStack, int level) {
+        PlayerEntity breakingPlayer = event.getPlayer();
+        if (breakingPlayer.getCooledAttackStrength(0.5f) > 0.9f && breakingPlayer.isOnGround() && !breakingPlayer.isSprinting()) {
+            SweepingEffect.truesweep(itemStack, breakingPlayer);
+        }
+    }
 
-                            int howlingLevel = EffectHelper.getEffectLevel(itemStack, ItemEffect.howling);
-                            if (howlingLevel > 0) {
-                                HowlingEffect.trigger(itemStack, breakingPlayer, howlingLevel);
-                            }
-                        }
-                    }
-                });
+    private static void onHowling(PlayerInteractEvent.LeftClickBlock event, ItemStack itemStack, int level) {
+        if (event.getPlayer().getCooledAttackStrength(0.5f) > 0.9f) {
+            HowlingEffect.trigger(itemStack, event.getPlayer(), level);
+        }
     }
 
     @SubscribeEvent
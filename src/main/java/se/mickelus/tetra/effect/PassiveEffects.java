@@ -0,0 +1,58 @@
+package se.mickelus.tetra.effect;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import se.mickelus.tetra.items.modular.IModularItem;
+import se.mickelus.tetra.module.data.EffectData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scheduler for item effects that do something periodically while the item is in an inventory, e.g. repairing the item. Each effect
+ * runs at a fixed interval, the tick at which it runs is offset by the holding entity and the inventory slot so that the work is
+ * spread out across ticks rather than done for all items of all players in the same tick. The effect data of the item is only
+ * resolved on ticks where at least one passive effect is due.
+ */
+public class PassiveEffects {
+    private static final List<ItemEffect> effects = new ArrayList<>();
+    private static final List<Integer> intervals = new ArrayList<>();
+    private static final List<EffectHooks.Hook<Entity>> hooks = new ArrayList<>();
+
+    /**
+     * Registers a passive effect, the hook is called on the server every interval ticks for each item that has the effect. The entity
+     * holding the item is passed as the event.
+     */
+    public static void register(ItemEffect effect, int interval, EffectHooks.Hook<Entity> hook) {
+        effects.add(effect);
+        intervals.add(interval);
+        hooks.add(hook);
+    }
+
+    public static void inventoryTick(ItemStack itemStack, World world, Entity entity, int itemSlot) {
+        if (world.isRemote || effects.isEmpty()) {
+            return;
+        }
+
+        long tick = world.getGameTime() + entity.getEntityId() * 31L + itemSlot;
+        EffectData data = null;
+
+        for (int i = 0; i < effects.size(); i++) {
+            if (tick % intervals.get(i) == 0) {
+                if (data == null) {
+                    IModularItem item = (IModularItem) itemStack.getItem();
+                    data = item.getEffectDataCached(itemStack);
+                    if (data.levelMap.isEmpty() || item.isBroken(itemStack)) {
+                        return;
+                    }
+                }
+
+                int level = data.getLevel(effects.get(i));
+                if (level > 0) {
+                    hooks.get(i).accept(entity, itemStack, level);
+                }
+            }
+        }
+    }
+}
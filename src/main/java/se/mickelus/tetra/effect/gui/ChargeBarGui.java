@@ -9,6 +9,8 @@ import se.mickelus.mgui.gui.GuiTexture;
 import se.mickelus.mgui.gui.animation.Applier;
 import se.mickelus.mgui.gui.animation.KeyframeAnimation;
 import se.mickelus.tetra.effect.ChargedAbilityEffect;
+import se.mickelus.tetra.effect.ClientEffects;
+import se.mickelus.tetra.effect.ItemEffect;
 import se.mickelus.tetra.gui.GuiTextures;
 import se.mickelus.tetra.gui.InvertColorGui;
 import se.mickelus.tetra.items.modular.ItemModularHandheld;
@@ -22,6 +24,13 @@ public class ChargeBarGui extends GuiElement {
     private Bar bar;
     private Bar[] overchargeBars;
 
+    private ItemStack activeStack = ItemStack.EMPTY;
+    private ItemModularHandheld item;
+    private ChargedAbilityEffect ability;
+    private boolean canOvercharge;
+    private int chargeTime;
+    private int chargeTimeTick;
+
     private final KeyframeAnimation showAnimation;
     private final KeyframeAnimation hideAnimation;
 
@@ -78,23 +87,32 @@ public class ChargeBarGui extends GuiElement {
         }
     }
 
+    /**
+     * Updates the bar for the item used by the given player. This is called every frame, the ability is only resolved when the used
+     * itemstack changes and the charge time only once per tick
+     */
     public void update(PlayerEntity player) {
-
         ItemStack activeStack = player.getActiveItemStack();
-        ItemModularHandheld item = CastOptional.cast(activeStack.getItem(), ItemModularHandheld.class).orElse(null);
-        ChargedAbilityEffect ability = Optional.ofNullable(item).map(i -> i.getChargeableAbility(activeStack)).orElse(null);
+        if (activeStack != this.activeStack) {
+            this.activeStack = activeStack;
+            item = CastOptional.cast(activeStack.getItem(), ItemModularHandheld.class).orElse(null);
+            ability = Optional.ofNullable(item).map(i -> i.getChargeableAbility(activeStack)).orElse(null);
+            canOvercharge = ability != null && ClientEffects.getLevel(activeStack, ItemEffect.abilityOvercharge) > 0;
+            chargeTimeTick = -1;
+        }
 
         if (ability != null) {
-            setProgress(getProgress(player, item, activeStack, ability), ability.canOvercharge(item, activeStack));
+            if (chargeTimeTick != player.ticksExisted) {
+                chargeTime = ability.getChargeTime(player, item, activeStack);
+                chargeTimeTick = player.ticksExisted;
+            }
+
+            setProgress((activeStack.getUseDuration() - player.getItemInUseCount()) * 1f / chargeTime, canOvercharge);
         } else {
             setProgress(0, false);
         }
     }
 
-    private float getProgress(PlayerEntity player, ItemModularHandheld item, ItemStack itemStack, ChargedAbilityEffect ability) {
-        return ability != null ? (itemStack.getUseDuration() - player.getItemInUseCount()) * 1f / ability.getChargeTime(player, item, itemStack) : 0;
-    }
-
     static class Bar extends GuiElement {
         private GuiTexture bar;
         private GuiTexture background;
@@ -7,7 +7,9 @@ import se.mickelus.mgui.gui.GuiTexture;
 import se.mickelus.mgui.gui.animation.AnimationChain;
 import se.mickelus.mgui.gui.animation.Applier;
 import se.mickelus.mgui.gui.animation.KeyframeAnimation;
+import se.mickelus.tetra.effect.ClientEffects;
 import se.mickelus.tetra.effect.ComboPoints;
+import se.mickelus.tetra.effect.ItemEffect;
 import se.mickelus.tetra.gui.GuiTextures;
 import se.mickelus.tetra.gui.InvertColorGui;
 
@@ -44,7 +46,7 @@ public class ComboPointGui extends GuiElement {
     }
 
     public void update(PlayerEntity player) {
-        if (ComboPoints.canSpend(player)) {
+        if (ClientEffects.hasHeldEffect(ItemEffect.abilityCombo)) {
             update(ComboPoints.get(player));
         } else {
             update(0);
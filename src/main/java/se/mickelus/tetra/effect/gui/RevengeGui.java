@@ -8,6 +8,8 @@ import se.mickelus.mgui.gui.GuiElement;
 import se.mickelus.mgui.gui.GuiTexture;
 import se.mickelus.mgui.gui.animation.Applier;
 import se.mickelus.mgui.gui.animation.KeyframeAnimation;
+import se.mickelus.tetra.effect.ClientEffects;
+import se.mickelus.tetra.effect.ItemEffect;
 import se.mickelus.tetra.effect.revenge.RevengeTracker;
 import se.mickelus.tetra.gui.GuiTextures;
 
@@ -45,7 +47,7 @@ public class RevengeGui extends GuiElement {
 
     public void update(PlayerEntity player, RayTraceResult mouseover) {
         if (mouseover != null && mouseover.getType() == RayTraceResult.Type.ENTITY
-                && RevengeTracker.canRevenge(player)
+                && ClientEffects.hasHeldEffect(ItemEffect.abilityRevenge)
                 && RevengeTracker.canRevenge(player, ((EntityRayTraceResult) mouseover).getEntity())) {
             if (!showAnimationLeft.isActive() && indicatorLeft.getOpacity() < 1) {
                 showAnimationLeft.start();
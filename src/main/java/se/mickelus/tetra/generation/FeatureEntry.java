@@ -22,6 +22,7 @@ import net.minecraft.world.gen.feature.Feature;
 import net.minecraft.world.gen.feature.NoFeatureConfig;
 import net.minecraft.world.gen.feature.template.IntegrityProcessor;
 import net.minecraft.world.gen.feature.template.PlacementSettings;
+import net.minecraft.world.gen.feature.template.StructureProcessor;
 import net.minecraft.world.gen.feature.template.Template;
 import net.minecraft.world.gen.feature.template.TemplateManager;
 import net.minecraft.world.gen.placement.Placement;
@@ -40,11 +41,9 @@ import se.mickelus.tetra.generation.processing.TransferUnitProcessor;
 import se.mickelus.tetra.util.ItemHandlerWrapper;
 import se.mickelus.tetra.util.RotationHelper;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-import java.util.Random;
-import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class FeatureEntry extends Feature<NoFeatureConfig> { //<FeatureReference> {
     public static final String key = "feature";
@@ -54,7 +53,20 @@ public class FeatureEntry extends Feature<NoFeatureConfig> { //<FeatureReference
     private TemplateManager templateManager;
     private Registry<Biome> biomeRegistry;
 
-    private List<FeatureParameters> entryPoints = Collections.emptyList();
+    // entry points indexed by dimension and biome category, rebuilt when feature data is reloaded
+    private Map<ResourceLocation, Map<Biome.Category, FeatureParameters[]>> entryPoints = Collections.emptyMap();
+
+    // templates are preloaded together with the feature data, this holds templates for features that were not preloaded (e.g. templates
+    // saved in the world), missing templates are cached as empty to avoid repeated lookups
+    private final Map<ResourceLocation, Optional<Template>> templates = new ConcurrentHashMap<>();
+
+    // the tetra processors are stateless and can be shared between all placements
+    private static final StructureProcessor[] processors = new StructureProcessor[] {
+            new ForgedContainerProcessor(),
+            new ForgedCrateProcessor(),
+            new ForgedHammerProcessor(),
+            new TransferUnitProcessor()
+    };
 
     public FeatureEntry() {
         super(NoFeatureConfig.field_236558_a_);
@@ -68,14 +80,45 @@ public class FeatureEntry extends Feature<NoFeatureConfig> { //<FeatureReference
     }
 
     private void setupEntryPoints() {
-        entryPoints = DataManager.featureData.getData().values().stream()
+        Map<ResourceLocation, Map<Biome.Category, List<FeatureParameters>>> result = new HashMap<>();
+        DataManager.featureData.getData().values().stream()
                 .filter(params -> params.biomes.length > 0)
-                .collect(Collectors.toList());
+                .forEach(params -> {
+                    for (ResourceLocation dimension : params.dimensions) {
+                        Map<Biome.Category, List<FeatureParameters>> categories = result.computeIfAbsent(dimension, key -> new EnumMap<>(Biome.Category.class));
+                        for (Biome.Category category : Biome.Category.values()) {
+                            if (Arrays.stream(params.biomes).anyMatch(biomeName -> biomeName.equalsIgnoreCase(category.getName()))) {
+                                categories.computeIfAbsent(category, key -> new ArrayList<>()).add(params);
+                            }
+                        }
+                    }
+                });
+
+        Map<ResourceLocation, Map<Biome.Category, FeatureParameters[]>> index = new HashMap<>();
+        result.forEach((dimension, categories) -> {
+            Map<Biome.Category, FeatureParameters[]> categoryIndex = new EnumMap<>(Biome.Category.class);
+            categories.forEach((category, params) -> categoryIndex.put(category, params.toArray(new FeatureParameters[0])));
+            index.put(dimension, categoryIndex);
+        });
+
+        entryPoints = index;
+        templates.clear();
     }
 
     public void setup(MinecraftServer server) {
         templateManager = server.getTemplateManager();
         biomeRegistry = server.func_244267_aX().getRegistry(Registry.BIOME_KEY);
+
+        templates.clear();
+    }
+
+    private Template getTemplate(ResourceLocation location) {
+        Template template = DataManager.featureData.getTemplate(location);
+        if (template != null) {
+            return template;
+        }
+
+        return templates.computeIfAbsent(location, key -> Optional.ofNullable(templateManager.getTemplate(key))).orElse(null);
     }
 
     public void registerFeatures(BiomeLoadingEvent event) {
@@ -136,14 +179,40 @@ public class FeatureEntry extends Feature<NoFeatureConfig> { //<FeatureReference
 
     @Override
     public boolean generate(ISeedReader world, ChunkGenerator generator, Random rand, BlockPos pos, NoFeatureConfig ref) {
-        Biome biome = world.getBiome(pos);
-        ResourceLocation dimensionType = world.getWorld().getDimensionKey().getLocation();
+        if (FeatureStats.isEnabled()) {
+            long start = System.nanoTime();
+            FeatureStats.Dimension stats = FeatureStats.get(world.getWorld().getDimensionKey().getLocation());
+            boolean result = generate(world, rand, pos, stats);
+            stats.recordCall(System.nanoTime() - start);
+            return result;
+        }
 
-        for (FeatureParameters params: entryPoints) {
-            if (Arrays.asList(params.dimensions).contains(dimensionType)
-                    && Arrays.stream(params.biomes).anyMatch(biomeName -> biomeName.equalsIgnoreCase(biome.getCategory().getName()))
-                    && rand.nextFloat() < params.probability) {
+        return generate(world, rand, pos, null);
+    }
+
+    private boolean generate(ISeedReader world, Random rand, BlockPos pos, @Nullable FeatureStats.Dimension stats) {
+        Map<Biome.Category, FeatureParameters[]> categories = entryPoints.get(world.getWorld().getDimensionKey().getLocation());
+        if (categories == null) {
+            return false;
+        }
+
+        FeatureParameters[] candidates = categories.get(world.getBiome(pos).getCategory());
+        if (candidates == null) {
+            return false;
+        }
+
+        for (FeatureParameters params: candidates) {
+            if (stats != null) {
+                stats.get(params.location).rolls.increment();
+            }
+
+            if (rand.nextFloat() < params.probability) {
+                long start = stats != null ? System.nanoTime() : 0;
                 generateFeatureRoot(params, world, pos.up(params.minY + rand.nextInt(params.maxY - params.minY)), rand);
+
+                if (stats != null) {
+                    stats.get(params.location).recordRoot(System.nanoTime() - start);
+                }
                 return true;
             }
         }
@@ -180,7 +249,14 @@ public class FeatureEntry extends Feature<NoFeatureConfig> { //<FeatureReference
 
     private void generateFeature(FeatureParameters feature, ISeedReader world, BlockPos pos, Rotation rotation, Mirror mirror,
             Random random, int depth) {
-        final Template template = templateManager.getTemplate(feature.location);
+        final Template template = getTemplate(feature.location);
+        final FeatureStats.Entry stats = FeatureStats.isEnabled()
+                ? FeatureStats.get(world.getWorld().getDimensionKey().getLocation()).get(feature.location)
+                : null;
+        if (template == null && stats != null) {
+            stats.missingTemplates.increment();
+        }
+
         if (template != null) {
             final PlacementSettings settings = new PlacementSettings();
             settings.setRotation(rotation);
@@ -199,14 +275,17 @@ public class FeatureEntry extends Feature<NoFeatureConfig> { //<FeatureReference
                 settings.addProcessor(
                         new IntegrityProcessor(random.nextFloat() * (feature.integrityMax - feature.integrityMin) + feature.integrityMin));
             }
-            settings.addProcessor(new ForgedContainerProcessor());
-            settings.addProcessor(new ForgedCrateProcessor());
-            settings.addProcessor(new ForgedHammerProcessor());
-            settings.addProcessor(new TransferUnitProcessor());
+            for (StructureProcessor processor : processors) {
+                settings.addProcessor(processor);
+            }
 
             // todo 1.16: new BlockPos param here, what does it do?
             boolean blocksAdded = template.func_237146_a_(world, pos, pos, settings, random,2);
 
+            if (stats != null) {
+                stats.recordPlacement(depth, blocksAdded);
+            }
+
             if (blocksAdded) {
                 generateLoot(feature, world, pos, settings, random);
             }
@@ -0,0 +1,109 @@
+package se.mickelus.tetra.generation;
+
+import net.minecraft.util.ResourceLocation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and timings for feature generation, kept per dimension and feature location. Collection is disabled by default and is
+ * toggled through the tgen command, intended to be used while pregenerating to measure how much time features take and how often
+ * they generate. Features may generate on several worldgen threads at once, so all counters are thread safe.
+ */
+public class FeatureStats {
+    // upper bounds of the timing buckets, in microseconds, the last bucket holds everything above the last bound
+    public static final long[] timingBounds = new long[] { 100, 500, 1000, 5000, 10000, 50000 };
+
+    // recursion deeper than this is counted in the last depth bucket
+    public static final int maxTrackedDepth = 16;
+
+    private static volatile boolean enabled = false;
+
+    private static final Map<ResourceLocation, Dimension> dimensions = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        FeatureStats.enabled = enabled;
+    }
+
+    public static void reset() {
+        dimensions.clear();
+    }
+
+    public static Map<ResourceLocation, Dimension> getDimensions() {
+        return dimensions;
+    }
+
+    public static Dimension get(ResourceLocation dimension) {
+        return dimensions.computeIfAbsent(dimension, key -> new Dimension());
+    }
+
+    private static int getTimingBucket(long nanos) {
+        long micros = nanos / 1000;
+        for (int i = 0; i < timingBounds.length; i++) {
+            if (micros < timingBounds[i]) {
+                return i;
+            }
+        }
+
+        return timingBounds.length;
+    }
+
+    public static class Dimension {
+        // calls to the feature, roughly one per generated chunk
+        public final LongAdder calls = new LongAdder();
+        public final LongAdder nanos = new LongAdder();
+        public final AtomicLongArray timings = new AtomicLongArray(timingBounds.length + 1);
+
+        private final Map<ResourceLocation, Entry> features = new ConcurrentHashMap<>();
+
+        public void recordCall(long nanos) {
+            calls.increment();
+            this.nanos.add(nanos);
+            timings.incrementAndGet(getTimingBucket(nanos));
+        }
+
+        public Entry get(ResourceLocation location) {
+            return features.computeIfAbsent(location, key -> new Entry());
+        }
+
+        public Map<ResourceLocation, Entry> getFeatures() {
+            return features;
+        }
+    }
+
+    public static class Entry {
+        // times the probability of the feature was rolled, and how many of those passed
+        public final LongAdder rolls = new LongAdder();
+        public final LongAdder roots = new LongAdder();
+
+        // placements of the feature template, as root or as child, and how many of those did not add any blocks
+        public final LongAdder placements = new LongAdder();
+        public final LongAdder emptyPlacements = new LongAdder();
+        public final LongAdder missingTemplates = new LongAdder();
+        public final AtomicLongArray depths = new AtomicLongArray(maxTrackedDepth + 1);
+
+        // time spent generating the feature as root, including children
+        public final LongAdder nanos = new LongAdder();
+        public final AtomicLongArray timings = new AtomicLongArray(timingBounds.length + 1);
+
+        public void recordPlacement(int depth, boolean blocksAdded) {
+            placements.increment();
+            if (!blocksAdded) {
+                emptyPlacements.increment();
+            }
+            depths.incrementAndGet(Math.min(depth, maxTrackedDepth));
+        }
+
+        public void recordRoot(long nanos) {
+            roots.increment();
+            this.nanos.add(nanos);
+            timings.incrementAndGet(getTimingBucket(nanos));
+        }
+    }
+}
@@ -17,17 +17,33 @@ import net.minecraft.command.arguments.ResourceLocationArgument;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.text.StringTextComponent;
 import net.minecraft.world.ISeedReader;
 import net.minecraft.world.World;
 import se.mickelus.tetra.data.DataManager;
 
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 public class TGenCommand {
     public static void register(CommandDispatcher<CommandSource> dispatcher) {
         dispatcher.register(Commands.literal("tgen")
                 .requires(source -> source.hasPermissionLevel(2))
+                .then(Commands.literal("stats")
+                        .executes(TGenCommand::showStats)
+                        .then(Commands.literal("start")
+                                .executes(context -> toggleStats(context, true)))
+                        .then(Commands.literal("stop")
+                                .executes(context -> toggleStats(context, false)))
+                        .then(Commands.literal("reset")
+                                .executes(TGenCommand::resetStats))
+                        .then(Commands.argument("feature", ResourceLocationArgument.resourceLocation())
+                                .suggests(TGenCommand::getFeatureSuggestions)
+                                .executes(TGenCommand::showFeatureStats)))
                 .then(Commands.argument("feature", ResourceLocationArgument.resourceLocation())
                         .suggests(TGenCommand::getFeatureSuggestions)
                         .executes(TGenCommand::generateAtPlayer)
@@ -70,4 +86,102 @@ public class TGenCommand {
             FeatureEntry.instance.generateFeatureRoot(feature, world, pos, random);
         }
     }
+
+    private static int toggleStats(CommandContext<CommandSource> context, boolean enabled) {
+        FeatureStats.setEnabled(enabled);
+        context.getSource().sendFeedback(new StringTextComponent("Feature stats " + (enabled ? "started" : "stopped")), true);
+
+        return 1;
+    }
+
+    private static int resetStats(CommandContext<CommandSource> context) {
+        FeatureStats.reset();
+        context.getSource().sendFeedback(new StringTextComponent("Feature stats reset"), true);
+
+        return 1;
+    }
+
+    private static int showStats(CommandContext<CommandSource> context) {
+        CommandSource source = context.getSource();
+        ResourceLocation dimension = source.getWorld().getDimensionKey().getLocation();
+        FeatureStats.Dimension stats = FeatureStats.getDimensions().get(dimension);
+
+        source.sendFeedback(new StringTextComponent(String.format("Feature stats for %s (%s)", dimension,
+                FeatureStats.isEnabled() ? "collecting" : "stopped")), false);
+
+        if (stats == null) {
+            source.sendFeedback(new StringTextComponent("  no data"), false);
+            return 0;
+        }
+
+        long calls = stats.calls.sum();
+        long nanos = stats.nanos.sum();
+        source.sendFeedback(new StringTextComponent(String.format("  %d calls, %.1f ms total, %.3f ms avg", calls, nanos / 1e6,
+                calls > 0 ? nanos / 1e6 / calls : 0)), false);
+        source.sendFeedback(new StringTextComponent("  timings: " + formatTimings(stats.timings)), false);
+
+        stats.getFeatures().entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<ResourceLocation, FeatureStats.Entry> entry) -> entry.getValue().nanos.sum())
+                        .reversed())
+                .forEach(entry -> {
+                    FeatureStats.Entry featureStats = entry.getValue();
+                    long roots = featureStats.roots.sum();
+                    source.sendFeedback(new StringTextComponent(String.format("  %s: %d/%d rolls, %d placements, %.1f ms total, %.3f ms avg",
+                            entry.getKey(), roots, featureStats.rolls.sum(), featureStats.placements.sum(),
+                            featureStats.nanos.sum() / 1e6, roots > 0 ? featureStats.nanos.sum() / 1e6 / roots : 0)), false);
+                });
+
+        return 1;
+    }
+
+    private static int showFeatureStats(CommandContext<CommandSource> context) {
+        CommandSource source = context.getSource();
+        ResourceLocation dimension = source.getWorld().getDimensionKey().getLocation();
+        ResourceLocation featureLocation = ResourceLocationArgument.getResourceLocation(context, "feature");
+        FeatureStats.Entry stats = Optional.ofNullable(FeatureStats.getDimensions().get(dimension))
+                .map(dimensionStats -> dimensionStats.getFeatures().get(featureLocation))
+                .orElse(null);
+
+        source.sendFeedback(new StringTextComponent(String.format("Feature stats for %s in %s", featureLocation, dimension)), false);
+
+        if (stats == null) {
+            source.sendFeedback(new StringTextComponent("  no data"), false);
+            return 0;
+        }
+
+        long roots = stats.roots.sum();
+        long rolls = stats.rolls.sum();
+        source.sendFeedback(new StringTextComponent(String.format("  generated as root %d times out of %d rolls (%.2f%%)", roots, rolls,
+                rolls > 0 ? roots * 100d / rolls : 0)), false);
+        source.sendFeedback(new StringTextComponent(String.format("  %d placements, %d without added blocks, %d missing templates",
+                stats.placements.sum(), stats.emptyPlacements.sum(), stats.missingTemplates.sum())), false);
+        source.sendFeedback(new StringTextComponent(String.format("  %.1f ms total, %.3f ms avg", stats.nanos.sum() / 1e6,
+                roots > 0 ? stats.nanos.sum() / 1e6 / roots : 0)), false);
+        source.sendFeedback(new StringTextComponent("  timings: " + formatTimings(stats.timings)), false);
+
+        StringBuilder depths = new StringBuilder();
+        for (int i = 0; i < stats.depths.length(); i++) {
+            if (stats.depths.get(i) > 0) {
+                depths.append(i == FeatureStats.maxTrackedDepth ? i + "+" : i).append(": ").append(stats.depths.get(i)).append("  ");
+            }
+        }
+        source.sendFeedback(new StringTextComponent("  depths: " + depths), false);
+
+        return 1;
+    }
+
+    private static String formatTimings(AtomicLongArray timings) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < timings.length(); i++) {
+            if (timings.get(i) > 0) {
+                if (i < FeatureStats.timingBounds.length) {
+                    result.append("<").append(FeatureStats.timingBounds[i] / 1000f).append("ms");
+                } else {
+                    result.append(">").append(FeatureStats.timingBounds[i - 1] / 1000f).append("ms");
+                }
+                result.append(": ").append(timings.get(i)).append("  ");
+            }
+        }
+        return result.toString();
+    }
 }
@@ -0,0 +1,193 @@
+package se.mickelus.tetra.items.modular;
+
+import net.minecraft.nbt.*;
+import net.minecraftforge.common.util.Constants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact encoding for the tag of modular items, used when itemstacks are synced over the network. Modules, variants, improvements
+ * and tweaks are stored as top level string and int entries with long keys that mostly share the same parts, e.g. "sword/blade",
+ * "sword/basic_blade" and "sword/basic_blade_material". String and int entries are packed into a byte array where keys and string
+ * values are split into tokens at '/', ':' and '_', each unique token is only stored once in a palette. All other entries are left
+ * untouched. Decoding restores the tag exactly, tags that have not been encoded or that are malformed are returned as they are.
+ */
+public class CompactItemTag {
+    private static final Logger logger = LogManager.getLogger();
+
+    public static final String key = "tetra:compact";
+    private static final String versionKey = "v";
+    private static final String paletteKey = "p";
+    private static final String dataKey = "d";
+
+    private static final byte version = 1;
+
+    private static final int stringType = 0;
+    private static final int intType = 1;
+
+    public static CompoundNBT encode(CompoundNBT tag) {
+        Map<String, Integer> paletteIndices = new HashMap<>();
+        ListNBT palette = new ListNBT();
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        CompoundNBT result = new CompoundNBT();
+
+        int count = 0;
+        for (String entryKey : tag.keySet()) {
+            INBT value = tag.get(entryKey);
+            if (value instanceof StringNBT) {
+                writeVarInt(data, stringType);
+                writeTokens(data, entryKey, paletteIndices, palette);
+                writeTokens(data, value.getString(), paletteIndices, palette);
+                count++;
+            } else if (value instanceof IntNBT) {
+                writeVarInt(data, intType);
+                writeTokens(data, entryKey, paletteIndices, palette);
+                int intValue = ((IntNBT) value).getInt();
+                writeVarInt(data, (intValue << 1) ^ (intValue >> 31));
+                count++;
+            } else {
+                result.put(entryKey, value);
+            }
+        }
+
+        if (count == 0) {
+            return tag;
+        }
+
+        CompoundNBT compact = new CompoundNBT();
+        compact.putByte(versionKey, version);
+        compact.put(paletteKey, palette);
+        compact.putByteArray(dataKey, data.toByteArray());
+        result.put(key, compact);
+
+        return result;
+    }
+
+    public static CompoundNBT decode(CompoundNBT tag) {
+        if (!tag.contains(key, Constants.NBT.TAG_COMPOUND)) {
+            return tag;
+        }
+
+        CompoundNBT compact = tag.getCompound(key);
+        if (compact.getByte(versionKey) != version) {
+            logger.warn("Unable to decode item tag of version {}, expected version {}", compact.getByte(versionKey), version);
+            return tag;
+        }
+
+        ListNBT palette = compact.getList(paletteKey, Constants.NBT.TAG_STRING);
+        byte[] data = compact.getByteArray(dataKey);
+
+        CompoundNBT result = tag.copy();
+        result.remove(key);
+
+        // the tag may come from a client, so malformed data is expected and should not be able to cause exceptions further up
+        try {
+            int[] position = { 0 };
+            while (position[0] < data.length) {
+                int type = readVarInt(data, position);
+                String entryKey = readTokens(data, position, palette);
+                if (type == stringType) {
+                    result.putString(entryKey, readTokens(data, position, palette));
+                } else if (type == intType) {
+                    int zigzag = readVarInt(data, position);
+                    result.putInt(entryKey, (zigzag >>> 1) ^ -(zigzag & 1));
+                } else {
+                    throw new MalformedTagException("unknown entry type " + type);
+                }
+            }
+        } catch (MalformedTagException e) {
+            logger.warn("Unable to decode malformed item tag: {}", e.getMessage());
+            return tag;
+        }
+
+        return result;
+    }
+
+    private static void writeTokens(ByteArrayOutputStream data, String string, Map<String, Integer> paletteIndices, ListNBT palette) {
+        List<String> tokens = tokenize(string);
+        writeVarInt(data, tokens.size());
+        for (String token : tokens) {
+            Integer index = paletteIndices.get(token);
+            if (index == null) {
+                index = palette.size();
+                palette.add(StringNBT.valueOf(token));
+                paletteIndices.put(token, index);
+            }
+            writeVarInt(data, index);
+        }
+    }
+
+    private static String readTokens(byte[] data, int[] position, ListNBT palette) throws MalformedTagException {
+        int length = readVarInt(data, position);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            int index = readVarInt(data, position);
+            if (index < 0 || index >= palette.size()) {
+                throw new MalformedTagException("palette index " + index + " out of bounds, palette size is " + palette.size());
+            }
+            builder.append(palette.getString(index));
+        }
+        return builder.toString();
+    }
+
+    private static List<String> tokenize(String string) {
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c == '/' || c == ':' || c == '_') {
+                if (i > start) {
+                    tokens.add(string.substring(start, i));
+                }
+                tokens.add(String.valueOf(c));
+                start = i + 1;
+            }
+        }
+
+        if (start < string.length()) {
+            tokens.add(string.substring(start));
+        }
+
+        return tokens;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream data, int value) {
+        while ((value & ~0x7F) != 0) {
+            data.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.write(value);
+    }
+
+    private static int readVarInt(byte[] data, int[] position) throws MalformedTagException {
+        int result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (position[0] >= data.length) {
+                throw new MalformedTagException("unexpected end of data at " + position[0]);
+            }
+            if (shift > 28) {
+                throw new MalformedTagException("varint too long at " + position[0]);
+            }
+
+            b = data[position[0]++];
+            result |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return result;
+    }
+
+    private static class MalformedTagException extends Exception {
+        MalformedTagException(String message) {
+            super(message);
+        }
+    }
+}
@@ -980,33 +980,11 @@ public interface IModularItem {
     }
 
     default boolean hasImprovementSynergy(SynergyData synergy, String[] improvements) {
-        int improvementMatches = 0;
-        for (String improvement : improvements) {
-            if (improvementMatches == synergy.improvements.length) {
-                break;
-            }
-
-            if (improvement.equals(synergy.improvements[improvementMatches])) {
-                improvementMatches++;
-            }
-        }
-
-        return synergy.improvements.length > 0 && improvementMatches == synergy.improvements.length;
+        return SynergyData.matchesSorted(synergy.improvements, improvements);
     }
 
     default boolean hasVariantSynergy(SynergyData synergy, String[] variantKeys) {
-        int variantMatches = 0;
-        for (String variantKey : variantKeys) {
-            if (variantMatches == synergy.moduleVariants.length) {
-                break;
-            }
-
-            if (variantKey.equals(synergy.moduleVariants[variantMatches])) {
-                variantMatches++;
-            }
-        }
-
-        return synergy.moduleVariants.length > 0 && variantMatches == synergy.moduleVariants.length;
+        return SynergyData.matchesSorted(synergy.moduleVariants, variantKeys);
     }
 
     default boolean hasModuleSynergy(ItemStack itemStack, SynergyData synergy, ItemModule[] modules) {
@@ -1075,6 +1053,20 @@ public interface IModularItem {
         return Arrays.stream(getImprovements(itemStack)).anyMatch(improvement -> improvement.enchantment);
     }
 
+    Cache<String, Boolean> getEnchantmentCache();
+
+    /**
+     * Cached variant of {@link #hasEnchantments(ItemStack)}, used for glint checks which happen for every rendered stack each frame.
+     */
+    default boolean hasEnchantmentsCached(ItemStack itemStack) {
+        try {
+            return getEnchantmentCache().get(getDataCacheKey(itemStack), () -> hasEnchantments(itemStack));
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+            return hasEnchantments(itemStack);
+        }
+    }
+
     public static ItemStack removeAllEnchantments(ItemStack itemStack) {
         itemStack.removeChildTag("Enchantments");
         itemStack.removeChildTag("StoredEnchantments");
@@ -1119,6 +1111,21 @@ public interface IModularItem {
                 .collect(Collectors.collectingAndThen(Collectors.toList(), ImmutableList::copyOf));
     }
 
+    /**
+     * Items that swap models as they are being used, e.g. bows being drawn, can split their models into stages. The models for all
+     * stages are baked together and cached by the model cache key, so the cache key should not depend on the current stage.
+     * @return the index of the current stage in the list returned by {@link #getStageModels(ItemStack)}
+     */
+    @OnlyIn(Dist.CLIENT)
+    default int getModelStage(ItemStack itemStack, @Nullable LivingEntity entity) {
+        return 0;
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    default List<ImmutableList<ModuleModel>> getStageModels(ItemStack itemStack) {
+        return Collections.singletonList(getModels(itemStack, null));
+    }
+
     @OnlyIn(Dist.CLIENT)
     default String getTransformVariant(ItemStack itemStack, @Nullable LivingEntity entity) {
         return null;
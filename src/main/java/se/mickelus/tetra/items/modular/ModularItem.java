@@ -14,6 +14,7 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.inventory.EquipmentSlotType;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.StringTextComponent;
 import net.minecraft.world.World;
@@ -21,8 +22,8 @@ import net.minecraftforge.common.ToolType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import se.mickelus.tetra.ConfigHandler;
-import se.mickelus.tetra.compat.botania.ManaRepair;
 import se.mickelus.tetra.data.DataManager;
+import se.mickelus.tetra.effect.PassiveEffects;
 import se.mickelus.tetra.module.ItemUpgradeRegistry;
 import se.mickelus.tetra.module.data.*;
 import se.mickelus.tetra.properties.IToolProvider;
@@ -78,6 +79,11 @@ public abstract class ModularItem extends TetraItem implements IModularItem, ITo
             .expireAfterWrite(5, TimeUnit.MINUTES)
             .build();
 
+    private Cache<String, Boolean> enchantmentCache = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .build();
+
     public ModularItem(Properties properties) {
         super(properties);
 
@@ -90,6 +96,7 @@ public abstract class ModularItem extends TetraItem implements IModularItem, ITo
         toolCache.invalidateAll();
         effectCache.invalidateAll();
         propertyCache.invalidateAll();
+        enchantmentCache.invalidateAll();
     }
 
     @Override
@@ -137,6 +144,11 @@ public abstract class ModularItem extends TetraItem implements IModularItem, ITo
         return propertyCache;
     }
 
+    @Override
+    public Cache<String, Boolean> getEnchantmentCache() {
+        return enchantmentCache;
+    }
+
     public Cache<String, ToolData> getToolDataCache() {
         return toolCache;
     }
@@ -188,9 +200,25 @@ public abstract class ModularItem extends TetraItem implements IModularItem, ITo
         tooltip.addAll(getTooltip(stack, world, flag));
     }
 
+    @Nullable
+    @Override
+    public CompoundNBT getShareTag(ItemStack itemStack) {
+        CompoundNBT tag = super.getShareTag(itemStack);
+        if (tag != null && ConfigHandler.compactItemSync.get()) {
+            return CompactItemTag.encode(tag);
+        }
+
+        return tag;
+    }
+
+    @Override
+    public void readShareTag(ItemStack itemStack, @Nullable CompoundNBT tag) {
+        super.readShareTag(itemStack, tag != null ? CompactItemTag.decode(tag) : null);
+    }
+
     @Override
     public void inventoryTick(ItemStack itemStack, World world, Entity entity, int itemSlot, boolean isSelected) {
-        ManaRepair.itemInventoryTick(itemStack, world, entity);
+        PassiveEffects.inventoryTick(itemStack, world, entity, itemSlot);
     }
 
     @Override
@@ -62,6 +62,8 @@ public class ModularBowItem extends ModularItem {
     protected ModuleModel arrowModel1 = new ModuleModel("draw_1", new ResourceLocation(TetraMod.MOD_ID, "items/module/bow/arrow_1"));
     protected ModuleModel arrowModel2 = new ModuleModel("draw_2", new ResourceLocation(TetraMod.MOD_ID, "items/module/bow/arrow_2"));
 
+    private static final String[] drawVariants = { "item", "draw_0", "draw_1", "draw_2" };
+
     private static final GuiModuleOffsets majorOffsets = new GuiModuleOffsets(1, 21, -11, -3);
     private static final GuiModuleOffsets minorOffsets = new GuiModuleOffsets(-14, 23);
 
@@ -400,17 +402,17 @@ public class ModularBowItem extends ModularItem {
         }
     }
 
-    private String getDrawVariant(ItemStack itemStack, @Nullable LivingEntity entity) {
+    private int getDrawStage(ItemStack itemStack, @Nullable LivingEntity entity) {
         float progress = getProgress(itemStack, entity);
 
         if (progress == 0) {
-            return "item";
+            return 0;
         } else if (progress < 0.65) {
-            return "draw_0";
+            return 1;
         } else if (progress < 0.9) {
-            return "draw_1";
+            return 2;
         }
-        return "draw_2";
+        return 3;
     }
 
     private ModuleModel getArrowModel(String drawVariant) {
@@ -427,19 +429,38 @@ public class ModularBowItem extends ModularItem {
     }
 
     @Override
-    public String getModelCacheKey(ItemStack itemStack, LivingEntity entity) {
-        return super.getModelCacheKey(itemStack, entity) + ":" +  getDrawVariant(itemStack, entity);
+    @OnlyIn(Dist.CLIENT)
+    public int getModelStage(ItemStack itemStack, @Nullable LivingEntity entity) {
+        return getDrawStage(itemStack, entity);
+    }
+
+    @Override
+    @OnlyIn(Dist.CLIENT)
+    public List<ImmutableList<ModuleModel>> getStageModels(ItemStack itemStack) {
+        List<ModuleModel> moduleModels = getModuleModels(itemStack);
+        return Arrays.stream(drawVariants)
+                .map(modelType -> getModels(moduleModels, modelType))
+                .collect(Collectors.toList());
     }
 
     @Override
     @OnlyIn(Dist.CLIENT)
     public ImmutableList<ModuleModel> getModels(ItemStack itemStack, @Nullable LivingEntity entity) {
-        String modelType = getDrawVariant(itemStack, entity);
+        return getModels(getModuleModels(itemStack), drawVariants[getDrawStage(itemStack, entity)]);
+    }
 
-        ImmutableList<ModuleModel> models = getAllModules(itemStack).stream()
+    @OnlyIn(Dist.CLIENT)
+    private List<ModuleModel> getModuleModels(ItemStack itemStack) {
+        return getAllModules(itemStack).stream()
                 .sorted(Comparator.comparing(ItemModule::getRenderLayer))
                 .flatMap(itemModule -> Arrays.stream(itemModule.getModels(itemStack)))
                 .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    private ImmutableList<ModuleModel> getModels(List<ModuleModel> moduleModels, String modelType) {
+        ImmutableList<ModuleModel> models = moduleModels.stream()
                 .filter(model -> model.type.equals(modelType) || model.type.equals("static"))
                 .collect(Collectors.collectingAndThen(Collectors.toList(), ImmutableList::copyOf));
 
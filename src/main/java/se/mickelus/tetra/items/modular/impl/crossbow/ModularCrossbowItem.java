@@ -64,6 +64,8 @@ public class ModularCrossbowItem extends ModularItem {
     protected ModuleModel extractorModel = new ModuleModel("item", new ResourceLocation(TetraMod.MOD_ID, "items/module/crossbow/extractor"));
     protected ModuleModel fireworkModel = new ModuleModel("item", new ResourceLocation(TetraMod.MOD_ID, "items/module/crossbow/firework"));
 
+    private static final String[] drawVariants = { "item", "draw_0", "draw_1", "draw_2", "loaded" };
+
     private static final GuiModuleOffsets majorOffsets = new GuiModuleOffsets(-13, 0, -13, 18);
     private static final GuiModuleOffsets minorOffsets = new GuiModuleOffsets(4, -1, 13, 12, 4, 25);
 
@@ -506,19 +508,19 @@ public class ModularCrossbowItem extends ModularItem {
         return true;
     }
 
-    private String getDrawVariant(ItemStack itemStack, @Nullable LivingEntity entity) {
+    private int getDrawStage(ItemStack itemStack, @Nullable LivingEntity entity) {
         float progress = getProgress(itemStack, entity);
 
         if (isLoaded(itemStack)) {
-            return "loaded";
+            return 4;
         } else if (progress == 0) {
-            return "item";
+            return 0;
         } else if (progress < 0.58) {
-            return "draw_0";
+            return 1;
         } else if (progress < 1) {
-            return "draw_1";
+            return 2;
         }
-        return "draw_2";
+        return 3;
     }
 
     private String getProjectileVariant(ItemStack itemStack) {
@@ -551,22 +553,46 @@ public class ModularCrossbowItem extends ModularItem {
 
     @Override
     public String getModelCacheKey(ItemStack itemStack, LivingEntity entity) {
-        return super.getModelCacheKey(itemStack, entity) + ":" +  getDrawVariant(itemStack, entity) + getProjectileVariant(itemStack);
+        return super.getModelCacheKey(itemStack, entity) + ":" + getProjectileVariant(itemStack);
+    }
+
+    @Override
+    @OnlyIn(Dist.CLIENT)
+    public int getModelStage(ItemStack itemStack, @Nullable LivingEntity entity) {
+        return getDrawStage(itemStack, entity);
+    }
+
+    @Override
+    @OnlyIn(Dist.CLIENT)
+    public List<ImmutableList<ModuleModel>> getStageModels(ItemStack itemStack) {
+        List<ModuleModel> moduleModels = getModuleModels(itemStack);
+        return Arrays.stream(drawVariants)
+                .map(modelType -> getModels(itemStack, moduleModels, modelType))
+                .collect(Collectors.toList());
     }
 
     @Override
     @OnlyIn(Dist.CLIENT)
     public ImmutableList<ModuleModel> getModels(ItemStack itemStack, @Nullable LivingEntity entity) {
-        String modelType = getDrawVariant(itemStack, entity);
+        return getModels(itemStack, getModuleModels(itemStack), drawVariants[getDrawStage(itemStack, entity)]);
+    }
 
-        ImmutableList<ModuleModel> models = getAllModules(itemStack).stream()
+    @OnlyIn(Dist.CLIENT)
+    private List<ModuleModel> getModuleModels(ItemStack itemStack) {
+        return getAllModules(itemStack).stream()
                 .sorted(Comparator.comparing(ItemModule::getRenderLayer))
                 .flatMap(itemModule -> Arrays.stream(itemModule.getModels(itemStack)))
                 .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    private ImmutableList<ModuleModel> getModels(ItemStack itemStack, List<ModuleModel> moduleModels, String modelType) {
+        ImmutableList<ModuleModel> models = moduleModels.stream()
                 .filter(model -> model.type.equals(modelType) || model.type.equals("static"))
                 .collect(Collectors.collectingAndThen(Collectors.toList(), ImmutableList::copyOf));
 
-        if (isLoaded(itemStack)) {
+        if (modelType.equals("loaded")) {
             return ImmutableList.<ModuleModel>builder()
                     .addAll(models)
                     .add(getProjectileModel(itemStack))
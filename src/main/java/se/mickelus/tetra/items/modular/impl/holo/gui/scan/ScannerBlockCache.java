@@ -0,0 +1,291 @@
+package se.mickelus.tetra.items.modular.impl.holo.gui.scan;
+
+import it.unimi.dsi.fastutil.longs.*;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.ITag;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import javax.annotation.Nullable;
+
+/**
+ * Client side index of the positions of scannable blocks, kept per chunk so that the scanner can check its sweep against a handful of
+ * known positions instead of tracing rays through the world. Chunks are queued for indexing when they are loaded and are indexed a
+ * few sections at a time each tick, sections that have no scannable blocks in their palette are skipped without looking at the
+ * blocks. Indexed chunks are kept up to date through block updates (see {@link se.mickelus.tetra.mixin.MixinClientWorld}). Entries are
+ * dropped when chunks are unloaded or resent, and the whole index is dropped when the world or the tags change.
+ */
+@OnlyIn(Dist.CLIENT)
+public class ScannerBlockCache {
+    private static final ResourceLocation tag = new ResourceLocation("tetra:scannable");
+
+    // the number of sections that may be walked block by block each tick, and the number of sections that may be checked in total
+    private static final int walkBudget = 1;
+    private static final int sectionBudget = 64;
+
+    // indexed chunks, chunks that are not yet fully indexed are ignored by queries
+    private static final Long2ObjectMap<LongSet> chunks = new Long2ObjectOpenHashMap<>();
+
+    // chunks queued for indexing, with the positions found in the sections that have been indexed so far
+    private static final Long2ObjectMap<LongSet> pending = new Long2ObjectOpenHashMap<>();
+    private static final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+    private static int nextSection;
+
+    @Nullable
+    private static ClientWorld world;
+    @Nullable
+    private static ITag<Block> scannableTag;
+
+    /**
+     * Indexes queued chunks, should be called once per tick
+     */
+    public static void tick() {
+        if (!updateWorld()) {
+            return;
+        }
+
+        int walked = 0;
+        int checked = 0;
+        while (!queue.isEmpty() && walked < walkBudget && checked < sectionBudget) {
+            long key = queue.firstLong();
+            LongSet positions = pending.get(key);
+            Chunk chunk = (Chunk) world.getChunk(ChunkPos.getX(key), ChunkPos.getZ(key), ChunkStatus.FULL, false);
+
+            if (positions == null || chunk == null) {
+                pending.remove(key);
+                queue.dequeueLong();
+                nextSection = 0;
+                continue;
+            }
+
+            ChunkSection[] sections = chunk.getSections();
+            for (; nextSection < sections.length && walked < walkBudget && checked < sectionBudget; nextSection++) {
+                checked++;
+                if (indexSection(chunk, sections[nextSection], positions)) {
+                    walked++;
+                }
+            }
+
+            if (nextSection >= sections.length) {
+                chunks.put(key, positions);
+                pending.remove(key);
+                queue.dequeueLong();
+                nextSection = 0;
+            }
+        }
+    }
+
+    /**
+     * Drops the index if the world has changed, returns false if there is no world
+     */
+    private static boolean updateWorld() {
+        ClientWorld currentWorld = Minecraft.getInstance().world;
+        if (currentWorld != world) {
+            clear();
+            world = currentWorld;
+        }
+
+        return world != null;
+    }
+
+    private static void clear() {
+        chunks.clear();
+        pending.clear();
+        queue.clear();
+        nextSection = 0;
+        scannableTag = null;
+    }
+
+    private static void enqueue(long key) {
+        if (!pending.containsKey(key)) {
+            pending.put(key, new LongOpenHashSet());
+            queue.enqueue(key);
+        }
+    }
+
+    @SubscribeEvent
+    public void onChunkLoad(ChunkEvent.Load event) {
+        if (event.getWorld() != null && event.getWorld().isRemote() && updateWorld() && event.getWorld() == world) {
+            long key = event.getChunk().getPos().asLong();
+            chunks.remove(key);
+
+            if (pending.containsKey(key)) {
+                // the chunk has been resent while queued, it's indexed again from the start
+                pending.put(key, new LongOpenHashSet());
+                if (queue.firstLong() == key) {
+                    nextSection = 0;
+                }
+            } else {
+                enqueue(key);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getWorld() != null && event.getWorld() == world) {
+            long key = event.getChunk().getPos().asLong();
+            chunks.remove(key);
+            pending.remove(key);
+
+            // the stale queue entry is dropped on the next tick, but the chunk may be queued again before that
+            if (!queue.isEmpty() && queue.firstLong() == key) {
+                nextSection = 0;
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        if (event.getWorld() == world) {
+            clear();
+            world = null;
+        }
+    }
+
+    @SubscribeEvent
+    public void onTagsUpdated(TagsUpdatedEvent event) {
+        clear();
+    }
+
+    /**
+     * Called when a block changes in the client world, updates the index if the chunk has been indexed or is being indexed
+     */
+    public static void onBlockUpdate(ClientWorld changedWorld, BlockPos pos, BlockState oldState, BlockState newState) {
+        if (changedWorld != world || oldState == newState) {
+            return;
+        }
+
+        long key = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        LongSet positions = chunks.get(key);
+        if (positions == null) {
+            positions = pending.get(key);
+        }
+
+        if (positions != null) {
+            if (isScannable(newState)) {
+                positions.add(pos.toLong());
+            } else {
+                positions.remove(pos.toLong());
+            }
+        }
+    }
+
+    private static boolean isScannable(BlockState blockState) {
+        if (scannableTag == null) {
+            scannableTag = BlockTags.getCollection().getTagByID(tag);
+        }
+
+        return blockState.isIn(scannableTag);
+    }
+
+    /**
+     * Gets the positions of scannable blocks in the given chunk, chunks that are neither indexed nor queued (e.g. chunks loaded before
+     * the index was dropped) are queued for indexing
+     * @return the positions, or null if the chunk has not been indexed yet
+     */
+    @Nullable
+    private static LongSet getPositions(int chunkX, int chunkZ) {
+        long key = ChunkPos.asLong(chunkX, chunkZ);
+        LongSet positions = chunks.get(key);
+
+        if (positions == null && world != null && world.getChunkProvider().chunkExists(chunkX, chunkZ)) {
+            enqueue(key);
+        }
+
+        return positions;
+    }
+
+    /**
+     * Adds the positions of scannable blocks in the given section, sections without any scannable blocks in their palette are skipped
+     * @return true if the blocks of the section had to be walked
+     */
+    private static boolean indexSection(Chunk chunk, @Nullable ChunkSection section, LongSet result) {
+        if (ChunkSection.isEmpty(section) || !section.getData().func_235963_a_(ScannerBlockCache::isScannable)) {
+            return false;
+        }
+
+        int baseX = chunk.getPos().getXStart();
+        int baseZ = chunk.getPos().getZStart();
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    if (isScannable(section.getBlockState(x, y, z))) {
+                        result.add(BlockPos.pack(baseX + x, section.getYLocation() + y, baseZ + z));
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the closest scannable block within a cone
+     * @param origin the tip of the cone
+     * @param direction a normalized vector along the axis of the cone
+     * @param range the length of the cone
+     * @param angle the half angle of the cone, in degrees. Blocks are matched if any part of them could be within the cone
+     * @return the position of the closest matching block, or null if there is none
+     */
+    @Nullable
+    public static BlockPos findInCone(Vector3d origin, Vector3d direction, double range, double angle) {
+        double tan = Math.tan(Math.toRadians(angle));
+
+        int minChunkX = MathHelper.floor(origin.x - range) >> 4;
+        int maxChunkX = MathHelper.floor(origin.x + range) >> 4;
+        int minChunkZ = MathHelper.floor(origin.z - range) >> 4;
+        int maxChunkZ = MathHelper.floor(origin.z + range) >> 4;
+
+        long result = 0;
+        double resultDistance = Double.MAX_VALUE;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                LongSet positions = getPositions(chunkX, chunkZ);
+                if (positions == null || positions.isEmpty()) {
+                    continue;
+                }
+
+                LongIterator it = positions.iterator();
+                while (it.hasNext()) {
+                    long pos = it.nextLong();
+                    double dx = BlockPos.unpackX(pos) + 0.5 - origin.x;
+                    double dy = BlockPos.unpackY(pos) + 0.5 - origin.y;
+                    double dz = BlockPos.unpackZ(pos) + 0.5 - origin.z;
+
+                    // distance along the axis, and the distance from the axis
+                    double along = dx * direction.x + dy * direction.y + dz * direction.z;
+                    if (along < 0 || along > range || along >= resultDistance) {
+                        continue;
+                    }
+
+                    double offAxis = Math.sqrt(Math.max(dx * dx + dy * dy + dz * dz - along * along, 0));
+
+                    // 0.87 is roughly the distance from the center to the corners of a block
+                    if (offAxis <= along * tan + 0.87) {
+                        result = pos;
+                        resultDistance = along;
+                    }
+                }
+            }
+        }
+
+        return resultDistance != Double.MAX_VALUE ? BlockPos.fromLong(result) : null;
+    }
+}
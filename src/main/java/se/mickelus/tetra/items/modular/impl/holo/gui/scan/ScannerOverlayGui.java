@@ -1,20 +1,16 @@
 package se.mickelus.tetra.items.modular.impl.holo.gui.scan;
 
 import com.mojang.blaze3d.matrix.MatrixStack;
-import net.minecraft.block.BlockState;
 import net.minecraft.client.MainWindow;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.audio.SimpleSound;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvents;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
-import net.minecraft.util.math.RayTraceContext;
 import net.minecraft.util.math.vector.Vector3d;
-import net.minecraft.world.IBlockReader;
 import net.minecraft.world.World;
 import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.common.MinecraftForge;
@@ -25,9 +21,9 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
 import se.mickelus.mgui.gui.GuiAttachment;
 import se.mickelus.mgui.gui.GuiRoot;
 import se.mickelus.tetra.ConfigHandler;
-import se.mickelus.tetra.items.modular.IModularItem;
 import se.mickelus.tetra.items.modular.impl.holo.ModularHolosphereItem;
 import se.mickelus.tetra.items.modular.impl.toolbelt.ToolbeltHelper;
+import se.mickelus.tetra.effect.ClientEffects;
 import se.mickelus.tetra.effect.ItemEffect;
 
 import javax.annotation.Nullable;
@@ -37,7 +33,9 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class ScannerOverlayGui extends GuiRoot {
-    private static final ResourceLocation tag = new ResourceLocation("tetra:scannable");
+    // half angles of the cones checked for each sweep, in degrees, up & down sweeps are 5 degrees apart and mid sweeps 10 degrees apart
+    private static final float verticalAngle = 2.5f;
+    private static final float midAngle = 5;
 
     public static ScannerOverlayGui instance;
 
@@ -74,6 +72,8 @@ public class ScannerOverlayGui extends GuiRoot {
 
         sound = new ScannerSound(mc);
 
+        MinecraftForge.EVENT_BUS.register(new ScannerBlockCache());
+
         if (ConfigHandler.development.get()) {
             MinecraftForge.EVENT_BUS.register(new ScannerDebugRenderer(this));
         }
@@ -135,7 +135,7 @@ public class ScannerOverlayGui extends GuiRoot {
     private void updateGuiVisibility() {
         int scannerRange = Stream.of(mc.player.getHeldItemMainhand(), mc.player.getHeldItemOffhand())
                 .filter(stack -> stack.getItem() instanceof ModularHolosphereItem)
-                .map(stack -> ((IModularItem) stack.getItem()).getEffectLevel(stack, ItemEffect.scannerRange))
+                .map(stack -> ClientEffects.getLevel(stack, ItemEffect.scannerRange))
                 .findFirst()
                 .orElse(0);
 
@@ -173,6 +173,7 @@ public class ScannerOverlayGui extends GuiRoot {
         }
 
         updateGuiVisibility();
+        ScannerBlockCache.tick();
         ticks++;
 
         if (ticks % 200 == 0) {
@@ -195,7 +196,7 @@ public class ScannerOverlayGui extends GuiRoot {
                     if (verticalSpread > 0) {
                         upHighlight = IntStream.range(0, verticalSpread)
                                 .map(i -> i * -5 - 25)
-                                .mapToObj(pitch -> getPositions(player, world, pitch, yawOffset))
+                                .mapToObj(pitch -> getPositions(player, pitch, yawOffset, verticalAngle))
                                 .filter(Objects::nonNull)
                                 .findAny()
                                 .orElse(null);
@@ -206,7 +207,7 @@ public class ScannerOverlayGui extends GuiRoot {
 
                         downHighlight = IntStream.range(0, verticalSpread)
                                 .map(i -> i * 5 + 25)
-                                .mapToObj(pitch -> getPositions(player, world, pitch, yawOffset))
+                                .mapToObj(pitch -> getPositions(player, pitch, yawOffset, verticalAngle))
                                 .filter(Objects::nonNull)
                                 .findAny()
                                 .orElse(null);
@@ -218,7 +219,7 @@ public class ScannerOverlayGui extends GuiRoot {
                 } else if (offset / 2 < horizontalSpread - 1) {
                     midHighlight = IntStream.range(-1, 2)
                             .map(i -> i * 10)
-                            .mapToObj(pitch -> getPositions(player, world, pitch, yawOffset))
+                            .mapToObj(pitch -> getPositions(player, pitch, yawOffset, midAngle))
                             .filter(Objects::nonNull)
                             .findAny()
                             .orElse(null);
@@ -234,19 +235,11 @@ public class ScannerOverlayGui extends GuiRoot {
     }
 
     @Nullable
-    private BlockPos getPositions(PlayerEntity player, World world, int pitchOffset, int yawOffset) {
+    private BlockPos getPositions(PlayerEntity player, int pitchOffset, int yawOffset, float angle) {
         Vector3d eyePosition = player.getEyePosition(0);
         Vector3d lookVector = getVectorForRotation(player.getPitch(1) + pitchOffset, player.getYaw(1) + yawOffset);
-        Vector3d endVector = eyePosition.add(lookVector.x * range, lookVector.y * range, lookVector.z * range);
-
-        return IBlockReader.doRayTrace(new RayTraceContext(eyePosition, endVector, RayTraceContext.BlockMode.OUTLINE, RayTraceContext.FluidMode.NONE, player), (ctx, blockPos) -> {
-            BlockState blockState = world.getBlockState(blockPos);
 
-            if (blockState.getBlock().getTags().contains(tag)) {
-                return blockPos.toImmutable();
-            }
-            return null;
-        }, ctx -> null);
+        return ScannerBlockCache.findInCone(eyePosition, lookVector, range, angle);
     }
 
     private Vector3d getVectorForRotation(float pitch, float yaw) {
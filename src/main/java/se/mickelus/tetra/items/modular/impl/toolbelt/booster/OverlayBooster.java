@@ -6,7 +6,8 @@ import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
-import se.mickelus.tetra.items.modular.impl.toolbelt.ToolbeltHelper;
+import se.mickelus.tetra.effect.ClientEffects;
+import se.mickelus.tetra.effect.ItemEffect;
 
 public class OverlayBooster {
 
@@ -19,15 +20,15 @@ public class OverlayBooster {
     }
 
     @SubscribeEvent
-    public void onPlayerTick(TickEvent.PlayerTickEvent event) {
+    public void onClientTick(TickEvent.ClientTickEvent event) {
         float fuelPercent = 0;
 
-        if (TickEvent.Phase.START == event.phase && !event.side.isClient()) {
+        if (TickEvent.Phase.END != event.phase) {
             return;
         }
 
-        ItemStack itemStack = ToolbeltHelper.findToolbelt(event.player);
-        if (UtilBooster.canBoost(itemStack)) {
+        ItemStack itemStack = ClientEffects.getToolbelt();
+        if (ClientEffects.getLevel(itemStack, ItemEffect.booster) > 0) {
             fuelPercent = UtilBooster.getFuelPercent(itemStack.getTag());
         }
 
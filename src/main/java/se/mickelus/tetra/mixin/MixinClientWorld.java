@@ -0,0 +1,23 @@
+package se.mickelus.tetra.mixin;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import se.mickelus.tetra.items.modular.impl.holo.gui.scan.ScannerBlockCache;
+
+@Mixin(ClientWorld.class)
+public abstract class MixinClientWorld {
+
+    @Inject(at = @At("HEAD"), method = "notifyBlockUpdate")
+    private void notifyBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState, int flags, CallbackInfo callback) {
+        ScannerBlockCache.onBlockUpdate(getInstance(), pos, oldState, newState);
+    }
+
+    private ClientWorld getInstance() {
+        return ((ClientWorld) (Object) this);
+    }
+}
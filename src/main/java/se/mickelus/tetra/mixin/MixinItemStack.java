@@ -32,7 +32,7 @@ public class MixinItemStack {
         if (getItem() instanceof IModularItem) {
             ItemStack itemStack = getInstance();
             callback.setReturnValue(itemStack.hasTag()
-                    && (itemStack.getTag().contains("Enchantments", 9) || ((IModularItem) getItem()).hasEnchantments(itemStack)));
+                    && (itemStack.getTag().contains("Enchantments", 9) || ((IModularItem) getItem()).hasEnchantmentsCached(itemStack)));
 
             callback.cancel();
         }
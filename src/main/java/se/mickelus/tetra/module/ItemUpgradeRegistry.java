@@ -1,18 +1,23 @@
 package se.mickelus.tetra.module;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import net.minecraft.enchantment.Enchantment;
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.enchantment.Enchantments;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.ResourceLocation;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import se.mickelus.tetra.TetraMod;
 import se.mickelus.tetra.data.DataManager;
 import se.mickelus.tetra.items.modular.IModularItem;
 import se.mickelus.tetra.module.data.EnchantmentMapping;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -22,19 +27,79 @@ public class ItemUpgradeRegistry {
     public static ItemUpgradeRegistry instance;
 
     private List<BiFunction<ItemStack, ItemStack, ItemStack>> replacementHooks;
-    private List<ReplacementDefinition> replacementDefinitions;
+    // replacements indexed by the item referenced by their predicate, each array also holds the tag based replacements in load order,
+    // items that are not referenced by any predicate only have to be tested against the tag based replacements
+    private Map<Item, ReplacementDefinition[]> itemReplacements;
+    private ReplacementDefinition[] fallbackReplacements;
+
+    // replacements for stacks that only differ in damage and enchantments, stacks in the cache have an identifier and should be copied
+    private static final Set<String> memoizableKeys = new HashSet<>(Arrays.asList("Damage", "Enchantments", "RepairCost"));
+    private Cache<ReplacementKey, ItemStack> replacementCache = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .expireAfterAccess(5, TimeUnit.MINUTES)
+            .build();
+
+    // enchantment mappings grouped on reload, the arrays are shared and should not be modified
+    private static final EnchantmentMapping[] emptyMappings = new EnchantmentMapping[0];
+    private EnchantmentMapping[] applyMappings;
+    private Map<String, EnchantmentMapping[]> improvementMappings;
+    private Map<Enchantment, EnchantmentMapping[]> extractMappings;
 
     public ItemUpgradeRegistry() {
         instance = this;
         replacementHooks = new ArrayList<> ();
 
-        replacementDefinitions = Collections.emptyList();
-        DataManager.replacementData.onReload(() -> {
-            replacementDefinitions = DataManager.replacementData.getData().values().stream()
-                    .flatMap(Arrays::stream)
-                    .filter(replacementDefinition -> replacementDefinition.predicate != null)
-                    .collect(Collectors.toList());
-        });
+        itemReplacements = Collections.emptyMap();
+        fallbackReplacements = new ReplacementDefinition[0];
+        DataManager.replacementData.onReload(this::setupReplacements);
+
+        applyMappings = emptyMappings;
+        improvementMappings = Collections.emptyMap();
+        extractMappings = Collections.emptyMap();
+        DataManager.enchantmentData.onReload(this::setupEnchantmentMappings);
+    }
+
+    private void setupReplacements() {
+        List<ReplacementDefinition> definitions = DataManager.replacementData.getData().values().stream()
+                .flatMap(Arrays::stream)
+                .filter(replacementDefinition -> replacementDefinition.predicate != null)
+                .collect(Collectors.toList());
+
+        itemReplacements = definitions.stream()
+                .map(definition -> definition.predicateItem)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toMap(item -> item, item -> definitions.stream()
+                        .filter(definition -> definition.predicateItem == null || definition.predicateItem == item)
+                        .toArray(ReplacementDefinition[]::new)));
+
+        fallbackReplacements = definitions.stream()
+                .filter(definition -> definition.predicateItem == null)
+                .toArray(ReplacementDefinition[]::new);
+
+        replacementCache.invalidateAll();
+    }
+
+    private void setupEnchantmentMappings() {
+        List<EnchantmentMapping> mappings = DataManager.enchantmentData.getData().values().stream()
+                .flatMap(Arrays::stream)
+                .filter(mapping -> mapping.enchantment != null)
+                .collect(Collectors.toList());
+
+        applyMappings = mappings.stream()
+                .filter(mapping -> mapping.apply)
+                .toArray(EnchantmentMapping[]::new);
+
+        improvementMappings = mappings.stream()
+                .filter(mapping -> mapping.apply)
+                .filter(mapping -> mapping.improvement != null)
+                .collect(Collectors.groupingBy(mapping -> mapping.improvement,
+                        Collectors.collectingAndThen(Collectors.toList(), list -> list.toArray(new EnchantmentMapping[0]))));
+
+        extractMappings = mappings.stream()
+                .filter(mapping -> mapping.extract)
+                .collect(Collectors.groupingBy(mapping -> mapping.enchantment,
+                        Collectors.collectingAndThen(Collectors.toList(), list -> list.toArray(new EnchantmentMapping[0]))));
     }
 
     /**
@@ -48,12 +113,48 @@ public class ItemUpgradeRegistry {
 
     /**
      * Attempts to get a modular itemstack to replace the given non-modular itemstack.
-     * Make sure to call {@link IModularItem#updateIdentifier} on the new item afterwards to make rendering cheaper.
+     * Replacements for items without other tag data than damage and enchantments are memoized and already have an identifier,
+     * otherwise make sure to call {@link IModularItem#updateIdentifier} on the new item afterwards to make rendering cheaper.
      * @param itemStack A non-modular itemstack
      * @return The modular counterpart to the given item, or an empty itemstack if there is none
      */
     public ItemStack getReplacement(ItemStack itemStack) {
-        for (ReplacementDefinition replacementDefinition: replacementDefinitions) {
+        if (itemStack.isEmpty()) {
+            return ItemStack.EMPTY;
+        }
+
+        if (isMemoizable(itemStack)) {
+            try {
+                ItemStack replacementStack = replacementCache.get(new ReplacementKey(itemStack), () -> {
+                    ItemStack result = createReplacement(itemStack);
+                    if (result.getItem() instanceof IModularItem) {
+                        IModularItem.updateIdentifier(result);
+                    }
+                    return result;
+                });
+
+                return replacementStack.copy();
+            } catch (ExecutionException e) {
+                logger.warn("Failed to get replacement for " + itemStack.getItem().getRegistryName(), e);
+                return ItemStack.EMPTY;
+            }
+        }
+
+        return createReplacement(itemStack);
+    }
+
+    /**
+     * Replacements for stacks without other tag data than damage and enchantments only depend on the item, count, damage and
+     * enchantments as replacement hooks only read other tag data.
+     */
+    private boolean isMemoizable(ItemStack itemStack) {
+        CompoundNBT tag = itemStack.getTag();
+        return tag == null || memoizableKeys.containsAll(tag.keySet());
+    }
+
+    private ItemStack createReplacement(ItemStack itemStack) {
+        ReplacementDefinition[] definitions = itemReplacements.getOrDefault(itemStack.getItem(), fallbackReplacements);
+        for (ReplacementDefinition replacementDefinition: definitions) {
             if (replacementDefinition.predicate.test(itemStack)) {
                 ItemStack replacementStack = replacementDefinition.itemStack.copy();
                 replacementStack.setDamage(itemStack.getDamage());
@@ -69,6 +170,36 @@ public class ItemUpgradeRegistry {
         return ItemStack.EMPTY;
     }
 
+    private static class ReplacementKey {
+        private final Item item;
+        private final int count;
+        private final int damage;
+        private final INBT enchantments;
+
+        public ReplacementKey(ItemStack itemStack) {
+            item = itemStack.getItem();
+            count = itemStack.getCount();
+            damage = itemStack.getDamage();
+            enchantments = itemStack.hasTag() ? Optional.ofNullable(itemStack.getTag().get("Enchantments")).map(INBT::copy).orElse(null);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ReplacementKey that = (ReplacementKey) o;
+            return count == that.count
+                    && damage == that.damage
+                    && item == that.item
+                    && Objects.equals(enchantments, that.enchantments);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(item, count, damage, enchantments);
+        }
+    }
+
     private void transferEnchantments(ItemStack sourceStack, ItemStack modularStack) {
         if (modularStack.getItem() instanceof IModularItem) {
             IModularItem item = (IModularItem) modularStack.getItem();
@@ -115,34 +246,31 @@ public class ItemUpgradeRegistry {
             }
     }
 
+    /**
+     * @return all enchantment mappings that should be applied to items, the returned array is shared and should not be modified
+     */
     public EnchantmentMapping[] getEnchantmentMappings() {
-        return DataManager.enchantmentData.getData().values().stream()
-                .flatMap(Arrays::stream)
-                .filter(mapping -> mapping.enchantment != null)
-                .filter(mapping -> mapping.apply)
-                .toArray(EnchantmentMapping[]::new);
+        return applyMappings;
     }
 
+    /**
+     * @param improvement an improvement key
+     * @return the enchantment mappings that apply the given improvement, the returned array is shared and should not be modified
+     */
     public EnchantmentMapping[] getEnchantmentMappings(String improvement) {
-        return DataManager.enchantmentData.getData().values().stream()
-                .flatMap(Arrays::stream)
-                .filter(mapping -> mapping.enchantment != null)
-                .filter(mapping -> improvement.equals(mapping.improvement))
-                .filter(mapping -> mapping.apply)
-                .toArray(EnchantmentMapping[]::new);
+        return improvementMappings.getOrDefault(improvement, emptyMappings);
     }
 
+    /**
+     * @param enchantment an enchantment
+     * @return the enchantment mappings that extract the given enchantment, the returned array is shared and should not be modified
+     */
     public EnchantmentMapping[] getEnchantmentMappings(Enchantment enchantment) {
-        return DataManager.enchantmentData.getData().values().stream()
-                .flatMap(Arrays::stream)
-                .filter(mapping -> mapping.enchantment != null)
-                .filter(mapping -> enchantment.equals(mapping.enchantment))
-                .filter(mapping -> mapping.extract)
-                .toArray(EnchantmentMapping[]::new);
+        return extractMappings.getOrDefault(enchantment, emptyMappings);
     }
 
     public ItemModule getModule(String key) {
-        return ModuleRegistry.instance.getModule(new ResourceLocation(TetraMod.MOD_ID, key));
+        return ModuleRegistry.instance.getModule(key);
     }
 
     public Collection<ItemModule> getAllModules() {
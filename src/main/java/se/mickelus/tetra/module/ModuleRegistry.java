@@ -5,11 +5,13 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import se.mickelus.tetra.TetraMod;
 import se.mickelus.tetra.data.DataManager;
 import se.mickelus.tetra.module.data.MaterialData;
 import se.mickelus.tetra.module.data.MaterialVariantData;
 import se.mickelus.tetra.module.data.ModuleData;
 import se.mickelus.tetra.module.data.VariantData;
+import se.mickelus.tetra.module.data.VariantDataPool;
 import se.mickelus.tetra.util.Filter;
 
 import java.util.*;
@@ -25,23 +27,32 @@ public class ModuleRegistry {
     private Map<ResourceLocation, BiFunction<ResourceLocation, ModuleData, ItemModule>> moduleConstructors;
     private Map<ResourceLocation, ItemModule> moduleMap;
 
+    // modules in the tetra namespace indexed by path, used to resolve module keys from item NBT without creating resource locations
+    private Map<String, ItemModule> tetraModuleMap;
+
     public ModuleRegistry() {
         instance = this;
 
         moduleConstructors = new HashMap<>();
         moduleMap = Collections.emptyMap();
+        tetraModuleMap = Collections.emptyMap();
 
         DataManager.moduleData.onReload(() -> setupModules(DataManager.moduleData.getData()));
     }
 
     private void setupModules(Map<ResourceLocation, ModuleData> data) {
+        VariantDataPool variantDataPool = new VariantDataPool();
         moduleMap = data.entrySet().stream()
                 .filter(entry -> validateModuleData(entry.getKey(), entry.getValue()))
                 .flatMap(entry -> expandEntry(entry).stream())
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
-                        entry -> setupModule(entry.getKey(), entry.getValue())
+                        entry -> setupModule(entry.getKey(), entry.getValue(), variantDataPool)
                 ));
+
+        tetraModuleMap = moduleMap.entrySet().stream()
+                .filter(entry -> TetraMod.MOD_ID.equals(entry.getKey().getNamespace()))
+                .collect(Collectors.toMap(entry -> entry.getKey().getPath(), Map.Entry::getValue));
     }
 
     private boolean validateModuleData(ResourceLocation identifier, ModuleData data) {
@@ -91,22 +102,32 @@ public class ModuleRegistry {
      * Expands all material based variants for this module data.
      * @param moduleData
      */
-    private void expandMaterialVariants(ModuleData moduleData) {
-        moduleData.variants = Arrays.stream(moduleData.variants)
+    private void expandMaterialVariants(ModuleData moduleData, VariantDataPool pool) {
+        moduleData.variants = expandMaterialVariants(moduleData.variants, pool);
+    }
+
+    /**
+     * Expands material based variants into one variant per matching material, other variants are passed through as they are.
+     * @param variants variant data as read from module data
+     * @param pool pool used to share identical variant data
+     * @return the expanded variants
+     */
+    static VariantData[] expandMaterialVariants(VariantData[] variants, VariantDataPool pool) {
+        return Arrays.stream(variants)
                 .flatMap(variant ->
                         variant instanceof MaterialVariantData
-                                ? expandMaterialVariant((MaterialVariantData) variant)
+                                ? expandMaterialVariant((MaterialVariantData) variant, pool)
                                 : Stream.of(variant))
                 .toArray(VariantData[]::new);
     }
 
-    private Stream<VariantData> expandMaterialVariant(MaterialVariantData source) {
+    private static Stream<VariantData> expandMaterialVariant(MaterialVariantData source, VariantDataPool pool) {
         return Arrays.stream(source.materials)
                 .map(rl -> rl.getPath().endsWith("/")
                         ? DataManager.materialData.getDataIn(rl)
                         : Optional.ofNullable(DataManager.materialData.getData(rl)).map(Collections::singletonList).orElseGet(Collections::emptyList))
                 .flatMap(Collection::stream)
-                .map(source::combine);
+                .map(material -> source.combine(material, pool));
     }
 
     private void handleVariantDuplicates(ModuleData data) {
@@ -116,8 +137,8 @@ public class ModuleRegistry {
                 .toArray(VariantData[]::new);
     }
 
-    private ItemModule setupModule(ResourceLocation identifier, ModuleData data) {
-        expandMaterialVariants(data);
+    private ItemModule setupModule(ResourceLocation identifier, ModuleData data, VariantDataPool variantDataPool) {
+        expandMaterialVariants(data, variantDataPool);
         handleVariantDuplicates(data);
 
         return moduleConstructors.get(data.type).apply(identifier, data);
@@ -132,6 +153,15 @@ public class ModuleRegistry {
         return moduleMap.get(identifier);
     }
 
+    /**
+     * Gets a module in the tetra namespace by its path, e.g. "sword/basic_blade".
+     * @param key the path of the module identifier
+     * @return the module, or null if there is no module with the given key
+     */
+    public ItemModule getModule(String key) {
+        return tetraModuleMap.get(key);
+    }
+
     public Collection<ItemModule> getAllModules() {
         return moduleMap.values();
     }
@@ -1,8 +1,11 @@
 package se.mickelus.tetra.module;
 
 import net.minecraft.advancements.criterion.ItemPredicate;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
+import javax.annotation.Nullable;
+
 /**
  * Used when converting vanilla or non-tetra items into modular items, the fields in the class differs a fair amount
  * from the json format.
@@ -34,6 +37,13 @@ public class ReplacementDefinition {
      */
     public ItemPredicate predicate;
 
+    /**
+     * The item referenced by the predicate, used to index replacements by item. Null if the predicate matches on a tag or is of
+     * another item predicate type, such replacements are tested against all items. Not part of the json format.
+     */
+    @Nullable
+    public Item predicateItem;
+
     /**
      * The itemstack is generated from the item, modules & improvements json fields, every time a non-modular item
      * is used in a modular manner this itemstack is cloned and used instead of the non-modular item.
@@ -4,6 +4,8 @@ import net.minecraft.util.ResourceLocation;
 import se.mickelus.tetra.TetraMod;
 import se.mickelus.tetra.gui.GuiTextures;
 
+import java.util.Objects;
+
 /**
  * Used to describe glyphs for modules and schematics in the UI.
  *
@@ -69,4 +71,9 @@ public class GlyphData {
                 && tint == ((GlyphData) obj).tint
                 && textureLocation.equals(((GlyphData) obj).textureLocation);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(textureX, textureY, tint, textureLocation);
+    }
 }
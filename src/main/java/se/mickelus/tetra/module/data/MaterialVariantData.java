@@ -15,6 +15,20 @@ public class MaterialVariantData extends VariantData {
     public MaterialMultiplier extract = new MaterialMultiplier();
 
     public VariantData combine(MaterialData material) {
+        return combine(material, new VariantDataPool());
+    }
+
+    /**
+     * Combines this variant with the given material, sharing equal attributes, effects, tools, glyphs and models through the given pool.
+     * @param material the material to combine with
+     * @param pool pool used to intern the sub-structures of the result
+     * @return a variant for the given material
+     */
+    public VariantData combine(MaterialData material, VariantDataPool pool) {
+        return pool.combine(this, material, () -> combineInterned(material, pool));
+    }
+
+    private VariantData combineInterned(MaterialData material, VariantDataPool pool) {
         UniqueVariantData result = new UniqueVariantData();
 
         result.key = key + material.key;
@@ -23,12 +37,12 @@ public class MaterialVariantData extends VariantData {
             result.category = material.category;
         }
 
-        result.attributes = AttributeHelper.collapseRound(AttributeHelper.merge(Arrays.asList(
+        result.attributes = pool.intern(AttributeHelper.collapseRound(AttributeHelper.merge(Arrays.asList(
                 attributes,
                 AttributeHelper.multiplyModifiers(extract.primaryAttributes, material.primary),
                 AttributeHelper.multiplyModifiers(extract.secondaryAttributes, material.secondary),
                 AttributeHelper.multiplyModifiers(extract.tertiaryAttributes, material.tertiary)
-        )));
+        ))));
 
         result.durability = Math.round(durability + Optional.ofNullable(extract.durability)
                 .map(extracted -> extracted * material.durability)
@@ -47,27 +61,27 @@ public class MaterialVariantData extends VariantData {
                 .map(extracted -> extracted * material.magicCapacity)
                 .orElse(0f));
 
-        result.effects = EffectData.merge(Arrays.asList(
+        result.effects = pool.intern(EffectData.merge(Arrays.asList(
                 effects,
                 material.effects,
                 EffectData.multiply(extract.primaryEffects, material.primary, material.primary),
                 EffectData.multiply(extract.secondaryEffects, material.secondary, material.secondary),
                 EffectData.multiply(extract.tertiaryEffects, material.tertiary, material.tertiary)
-        ));
+        )));
 
-        result.tools = ToolData.merge(Arrays.asList(
+        result.tools = pool.intern(ToolData.merge(Arrays.asList(
                 tools,
                 ToolData.multiply(extract.tools, material.toolLevel, material.toolEfficiency)
-        ));
+        )));
 
-        result.glyph = Optional.ofNullable(extract.glyph)
+        result.glyph = pool.intern(Optional.ofNullable(extract.glyph)
                 .map(glyph -> new GlyphData(glyph.textureLocation, glyph.textureX, glyph.textureY, material.tints.glyph))
-                .orElse(glyph);
+                .orElse(glyph));
 
-        result.models = Stream.concat(
+        result.models = pool.intern(Stream.concat(
                 Arrays.stream(models),
                 Arrays.stream(extract.models).map(model -> new ModuleModel(model.type, combineModelLocation(model.location, material), material.tints.texture)))
-                .toArray(ModuleModel[]::new);
+                .toArray(ModuleModel[]::new));
 
         return result;
     }
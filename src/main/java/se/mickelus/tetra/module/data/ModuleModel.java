@@ -2,6 +2,8 @@ package se.mickelus.tetra.module.data;
 
 import net.minecraft.util.ResourceLocation;
 
+import java.util.Objects;
+
 public class ModuleModel {
     public String type = "item";
     public ResourceLocation location;
@@ -23,4 +25,17 @@ public class ModuleModel {
         this.location = location;
         this.tint = tint;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ModuleModel
+                && tint == ((ModuleModel) obj).tint
+                && Objects.equals(type, ((ModuleModel) obj).type)
+                && Objects.equals(location, ((ModuleModel) obj).location);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, location, tint);
+    }
 }
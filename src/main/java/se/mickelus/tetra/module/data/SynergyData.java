@@ -35,4 +35,25 @@ public class SynergyData extends VariantData {
 
     // if set to true this synergy bonus will never show up in UIs
     public boolean hidden = false;
+
+    /**
+     * Checks if all required keys are present in the given keys, both arrays have to be sorted.
+     * @param required keys required by a synergy
+     * @param keys keys present on an item
+     * @return true if there is at least one required key and all required keys are present
+     */
+    public static boolean matchesSorted(String[] required, String[] keys) {
+        int matches = 0;
+        for (String key : keys) {
+            if (matches == required.length) {
+                break;
+            }
+
+            if (key.equals(required[matches])) {
+                matches++;
+            }
+        }
+
+        return required.length > 0 && matches == required.length;
+    }
 }
@@ -2,6 +2,7 @@ package se.mickelus.tetra.module.data;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -41,4 +42,17 @@ public class TierData<T> {
     public Set<T> getValues() {
         return levelMap.keySet();
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj != null
+                && getClass().equals(obj.getClass())
+                && levelMap.equals(((TierData<?>) obj).levelMap)
+                && efficiencyMap.equals(((TierData<?>) obj).efficiencyMap);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(levelMap, efficiencyMap);
+    }
 }
@@ -0,0 +1,66 @@
+package se.mickelus.tetra.module.data;
+
+import com.google.common.collect.Multimap;
+import net.minecraft.entity.ai.attributes.Attribute;
+import net.minecraft.entity.ai.attributes.AttributeModifier;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Interning pool used while expanding material variants. Many material variants end up with identical attributes, effects, tools,
+ * glyphs and models, so equal instances are shared rather than keeping a copy per variant. Variant data is never modified once it
+ * has been expanded, which is what makes the sharing safe. A new pool should be used for each reload.
+ */
+public class VariantDataPool {
+    private final Map<Object, Object> pool = new HashMap<>();
+    private final Map<List<Object>, Multimap<Attribute, AttributeModifier>> attributePool = new HashMap<>();
+    // material variant and material data do not override equals, so pairs of them are compared by identity
+    private final Map<Pair<MaterialVariantData, MaterialData>, VariantData> combined = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+
+        return (T) pool.computeIfAbsent(value, key -> key);
+    }
+
+    public ModuleModel[] intern(ModuleModel[] models) {
+        for (int i = 0; i < models.length; i++) {
+            ModuleModel model = models[i];
+            models[i] = intern(new ModuleModel(model.type, intern(model.location), model.tint));
+        }
+
+        return models;
+    }
+
+    /**
+     * Attribute modifiers are compared by their identifier only, so multimaps are interned based on a key built from the attribute,
+     * identifier, amount and operation of each modifier.
+     */
+    public Multimap<Attribute, AttributeModifier> intern(Multimap<Attribute, AttributeModifier> attributes) {
+        if (attributes == null) {
+            return null;
+        }
+
+        List<Object> key = new ArrayList<>(attributes.size() * 4);
+        attributes.forEach((attribute, modifier) -> {
+            key.add(attribute);
+            key.add(modifier.getID());
+            key.add(modifier.getAmount());
+            key.add(modifier.getOperation());
+        });
+
+        return attributePool.computeIfAbsent(key, k -> attributes);
+    }
+
+    /**
+     * Multislot modules share variant data between their slots, this ensures that each variant and material pair is only combined once.
+     */
+    public VariantData combine(MaterialVariantData variant, MaterialData material, Supplier<VariantData> combiner) {
+        return combined.computeIfAbsent(Pair.of(variant, material), key -> combiner.get());
+    }
+}
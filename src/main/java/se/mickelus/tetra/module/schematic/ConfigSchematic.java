@@ -65,7 +65,11 @@ public class ConfigSchematic extends BaseSchematic {
     }
 
     private Optional<OutcomeDefinition> getOutcomeFromMaterial(ItemStack materialStack, int slot) {
-        return Arrays.stream(definition.outcomes)
+        return getOutcomeFromMaterial(definition.outcomes, materialStack, slot);
+    }
+
+    static Optional<OutcomeDefinition> getOutcomeFromMaterial(OutcomeDefinition[] outcomes, ItemStack materialStack, int slot) {
+        return Arrays.stream(outcomes)
                 .filter(outcome -> outcome.materialSlot == slot)
                 .filter(outcome -> outcome.material.getPredicate() != null && outcome.material.getPredicate().test(materialStack))
                 .reduce((a, b) -> b); // returns the last element, there's no findLast :c
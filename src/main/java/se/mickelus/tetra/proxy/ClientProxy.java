@@ -13,6 +13,7 @@ import se.mickelus.tetra.blocks.ITetraBlock;
 import se.mickelus.tetra.blocks.salvage.InteractiveBlockOverlay;
 import se.mickelus.tetra.blocks.scroll.ScrollItem;
 import se.mickelus.tetra.blocks.scroll.ScrollRenderer;
+import se.mickelus.tetra.effect.ClientEffects;
 import se.mickelus.tetra.blocks.scroll.ScrollTile;
 import se.mickelus.tetra.blocks.workbench.WorkbenchTESR;
 import se.mickelus.tetra.blocks.workbench.WorkbenchTile;
@@ -47,6 +48,7 @@ public class ClientProxy implements IProxy {
         ScreenManager.registerFactory(WorkbenchTile.containerType, WorkbenchScreen::new);
         ClientRegistry.bindTileEntityRenderer(ScrollTile.type, ScrollRenderer::new);
 
+        MinecraftForge.EVENT_BUS.register(new ClientEffects());
         MinecraftForge.EVENT_BUS.register(new HowlingOverlay(Minecraft.getInstance()));
         MinecraftForge.EVENT_BUS.register(new AbilityOverlays(Minecraft.getInstance()));
 